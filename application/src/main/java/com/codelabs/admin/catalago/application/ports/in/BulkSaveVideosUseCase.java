@@ -0,0 +1,10 @@
+package com.codelabs.admin.catalago.application.ports.in;
+
+import com.codelabs.admin.catalago.application.service.video.bulk.BulkSaveVideosCommand;
+import com.codelabs.admin.catalago.application.service.video.bulk.BulkVideoResult;
+
+import java.util.List;
+
+public interface BulkSaveVideosUseCase {
+    List<BulkVideoResult> saveAll(final BulkSaveVideosCommand command);
+}
@@ -5,6 +5,9 @@ import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface CastMemberUseCase {
     CastMember create(final CastMember castMember);
 
@@ -12,6 +15,8 @@ public interface CastMemberUseCase {
 
     CastMember getById(final String id);
 
+    Optional<Instant> getLastModified(final String id);
+
     CastMember update(final CastMember castMember);
 
     Pagination<CastMember> listCastMembers(final SearchQuery query);
@@ -4,6 +4,9 @@ import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface CategoryUseCase {
 
     Category create(final Category category);
@@ -12,6 +15,8 @@ public interface CategoryUseCase {
 
     Category getById(final String id);
 
+    Optional<Instant> getLastModified(final String id);
+
     Category update(final Category category);
 
     Pagination<Category> listCategories(final SearchQuery query);
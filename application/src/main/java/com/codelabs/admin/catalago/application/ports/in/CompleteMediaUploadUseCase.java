@@ -0,0 +1,8 @@
+package com.codelabs.admin.catalago.application.ports.in;
+
+import com.codelabs.admin.catalago.application.service.video.media.complete.CompleteMediaUploadCommand;
+import com.codelabs.admin.catalago.domain.video.Video;
+
+public interface CompleteMediaUploadUseCase {
+    Video complete(final CompleteMediaUploadCommand command);
+}
@@ -4,6 +4,9 @@ import com.codelabs.admin.catalago.domain.genre.Genre;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface GenreUseCase {
     Genre create(final Genre genre);
 
@@ -11,6 +14,8 @@ public interface GenreUseCase {
 
     Genre getById(final String id);
 
+    Optional<Instant> getLastModified(final String id);
+
     void deleteById(final String id);
 
     Pagination<Genre> listGenres(final SearchQuery query);
@@ -3,6 +3,10 @@ package com.codelabs.admin.catalago.application.ports.in;
 import com.codelabs.admin.catalago.application.service.video.media.get.GetMediaCommand;
 import com.codelabs.admin.catalago.domain.video.Resource;
 
+import java.util.Optional;
+
 public interface GetMediaUseCase {
     Resource getMedia (final GetMediaCommand command);
+
+    Optional<String> getChecksum(final GetMediaCommand command);
 }
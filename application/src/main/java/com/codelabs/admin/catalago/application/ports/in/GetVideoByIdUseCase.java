@@ -2,6 +2,11 @@ package com.codelabs.admin.catalago.application.ports.in;
 
 import com.codelabs.admin.catalago.domain.video.Video;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface GetVideoByIdUseCase {
     Video getById(final String id);
+
+    Optional<Instant> getLastModified(final String id);
 }
@@ -0,0 +1,11 @@
+package com.codelabs.admin.catalago.application.ports.in;
+
+import com.codelabs.admin.catalago.application.service.video.media.get.GetMediaCommand;
+import com.codelabs.admin.catalago.application.service.video.media.presign.PresignMediaUploadCommand;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+
+public interface PresignMediaUseCase {
+    PresignedUrl presignUpload(final PresignMediaUploadCommand command);
+
+    PresignedUrl presignDownload(final GetMediaCommand command);
+}
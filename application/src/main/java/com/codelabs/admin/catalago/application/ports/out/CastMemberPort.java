@@ -5,13 +5,19 @@ import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CastMemberPort {
+    CastMember create(final CastMember castMember);
+
     CastMember save(final CastMember castMember);
 
     CastMember getById(final CastMemberID id);
 
+    Optional<Instant> getUpdatedAt(final CastMemberID id);
+
     void deleteById(final CastMemberID id);
 
     Pagination<CastMember> listCastMembers(final SearchQuery query);
@@ -5,13 +5,19 @@ import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryPort {
+    Category create(final Category category);
+
     Category save(final Category category);
 
     Category getById(final CategoryID id);
 
+    Optional<Instant> getUpdatedAt(final CategoryID id);
+
     void deleteById(final CategoryID id);
 
     Pagination<Category> listCategories(final SearchQuery query);
@@ -5,13 +5,19 @@ import com.codelabs.admin.catalago.domain.genre.GenreID;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface GenrePort {
+    Genre create(final Genre genre);
+
     Genre save(final Genre genre);
 
     Genre getById(final GenreID id);
 
+    Optional<Instant> getUpdatedAt(final GenreID id);
+
     void deleteById(final GenreID id);
 
     Pagination<Genre> listGenres(final SearchQuery query);
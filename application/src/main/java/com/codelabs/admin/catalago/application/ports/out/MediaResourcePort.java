@@ -3,6 +3,8 @@ package com.codelabs.admin.catalago.application.ports.out;
 import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.video.*;
 
+import java.util.Optional;
+
 public interface MediaResourcePort {
     AudioVideoMedia storeAudioVideo(VideoID id, VideoResource resource);
 
@@ -10,5 +12,15 @@ public interface MediaResourcePort {
 
     Resource getResource(VideoID id, VideoMediaType type);
 
-    void clearResources(VideoID id);
+    Resource getResource(VideoID id, VideoMediaType type, ByteRange range);
+
+    PresignedUrl presignUpload(VideoID id, VideoMediaType type, MediaUpload upload);
+
+    PresignedUrl presignDownload(VideoID id, VideoMediaType type);
+
+    Optional<StoredMedia> getUpload(VideoID id, String uploadId);
+
+    StoredMedia completeUpload(VideoID id, VideoMediaType type, StoredMedia upload);
+
+    MediaCleanupReport clearResources(VideoID id);
 }
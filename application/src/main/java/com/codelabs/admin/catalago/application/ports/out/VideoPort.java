@@ -1,17 +1,38 @@
 package com.codelabs.admin.catalago.application.ports.out;
 
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.video.Video;
 import com.codelabs.admin.catalago.domain.video.VideoID;
 import com.codelabs.admin.catalago.domain.video.VideoPreview;
 import com.codelabs.admin.catalago.domain.video.VideoSearchQuery;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
 public interface VideoPort {
+    Video create(final Video video);
+
     Video save(final Video video);
 
+    /**
+     * Inserts the new videos and applies each update to the stored video of its id, in one transaction. An
+     * update without a stored video is left out of the returned list.
+     */
+    List<Video> saveAll(final List<Video> newVideos, final Map<VideoID, UnaryOperator<Video>> updates);
+
     Video getById(final VideoID id);
 
-    void deleteById(final VideoID id);
+    List<Video> getAllByIds(final Iterable<VideoID> ids);
+
+    Optional<Instant> getUpdatedAt(final VideoID id);
+
+    Optional<String> getMediaChecksum(final VideoID id, final VideoMediaType type);
+
+    int deleteById(final VideoID id);
 
     Pagination<VideoPreview> listVideos(final VideoSearchQuery query);
 }
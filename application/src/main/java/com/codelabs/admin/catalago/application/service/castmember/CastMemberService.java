@@ -10,6 +10,9 @@ import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static net.logstash.logback.marker.Markers.append;
 
 @UseCase
@@ -24,7 +27,7 @@ public class CastMemberService implements CastMemberUseCase {
     public CastMember create(final CastMember castMember) {
         log.info(append(CAST_MEMBER_FIELD, castMember), "Starting cast member creation service");
 
-        final var savedCastMember = this.castMemberPort.save(castMember);
+        final var savedCastMember = this.castMemberPort.create(castMember);
 
         log.info("Cast member creation service completed successfully.");
         return savedCastMember;
@@ -49,6 +52,11 @@ public class CastMemberService implements CastMemberUseCase {
         return castMember;
     }
 
+    @Override
+    public Optional<Instant> getLastModified(final String id) {
+        return this.castMemberPort.getUpdatedAt(CastMemberID.from(id));
+    }
+
     @Override
     public CastMember update(final CastMember castMember) {
         log.info(append(CAST_MEMBER_FIELD, castMember), "Starting cat member update service");
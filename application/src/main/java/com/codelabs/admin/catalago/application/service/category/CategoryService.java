@@ -10,6 +10,9 @@ import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static net.logstash.logback.marker.Markers.append;
 
 @UseCase
@@ -24,7 +27,7 @@ public class CategoryService implements CategoryUseCase {
     public Category create(final Category category) {
         log.info(append(CATEGORY_FIELD, category), "Starting category creation service");
 
-        final var savedCategory = this.categoryPort.save(category);
+        final var savedCategory = this.categoryPort.create(category);
 
         log.info("Category creation service completed successfully.");
 
@@ -50,6 +53,11 @@ public class CategoryService implements CategoryUseCase {
         return category;
     }
 
+    @Override
+    public Optional<Instant> getLastModified(final String id) {
+        return this.categoryPort.getUpdatedAt(CategoryID.from(id));
+    }
+
     @Override
     public Category update(final Category category) {
         log.info(append(CATEGORY_FIELD, category), "Starting category update service");
@@ -13,8 +13,10 @@ import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static net.logstash.logback.marker.Markers.append;
@@ -33,7 +35,7 @@ public class GenreService implements GenreUseCase {
         log.info(append(GENRE_FIELD, genre), "Starting genre creation service");
 
         validateCategories(genre.getCategories());
-        final var savedGenre = this.genrePort.save(genre);
+        final var savedGenre = this.genrePort.create(genre);
 
         log.info("Genre creation service completed successfully.");
         return savedGenre;
@@ -62,6 +64,11 @@ public class GenreService implements GenreUseCase {
         return genre;
     }
 
+    @Override
+    public Optional<Instant> getLastModified(final String id) {
+        return this.genrePort.getUpdatedAt(GenreID.from(id));
+    }
+
     @Override
     public void deleteById(final String id) {
         log.info(append("id", id), "delete genre by id");
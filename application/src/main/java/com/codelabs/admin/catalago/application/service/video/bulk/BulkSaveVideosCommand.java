@@ -0,0 +1,10 @@
+package com.codelabs.admin.catalago.application.service.video.bulk;
+
+import java.util.List;
+
+public record BulkSaveVideosCommand(List<BulkVideoItem> items) {
+
+    public static BulkSaveVideosCommand with(final List<BulkVideoItem> items) {
+        return new BulkSaveVideosCommand(items == null ? List.of() : items);
+    }
+}
@@ -0,0 +1,250 @@
+package com.codelabs.admin.catalago.application.service.video.bulk;
+
+import com.codelabs.admin.catalago.application.ports.in.BulkSaveVideosUseCase;
+import com.codelabs.admin.catalago.application.ports.out.CastMemberPort;
+import com.codelabs.admin.catalago.application.ports.out.CategoryPort;
+import com.codelabs.admin.catalago.application.ports.out.GenrePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.common.exceptions.DomainException;
+import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.stereotype.UseCase;
+import com.codelabs.admin.catalago.domain.Identifier;
+import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
+import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.enums.Rating;
+import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.video.Video;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Creates and updates many videos at once. The referenced categories, genres and cast members are checked with
+ * one lookup per aggregate for the whole request, and the videos are written in chunks, each one in its own
+ * transaction, so a failure only costs the items of its chunk. Medias are not part of a bulk request.
+ */
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class BulkSaveVideosService implements BulkSaveVideosUseCase {
+
+    // the adapter flushes a chunk in JDBC batches of hibernate.jdbc.batch_size
+    private static final int CHUNK_SIZE = 500;
+
+    private final CategoryPort categoryPort;
+    private final CastMemberPort castMemberPort;
+    private final GenrePort genrePort;
+    private final VideoPort videoPort;
+
+    @Override
+    public List<BulkVideoResult> saveAll(final BulkSaveVideosCommand command) {
+        final var items = command.items();
+        log.info("Starting video bulk save service {}", kv("size", items.size()));
+
+        final var references = new References(
+                existing("categories", items, BulkVideoItem::categories, CategoryID::from, categoryPort::existsByIds),
+                existing("genres", items, BulkVideoItem::genres, GenreID::from, genrePort::existsByIds),
+                existing("cast members", items, BulkVideoItem::members, CastMemberID::from, castMemberPort::existsByIds)
+        );
+
+        final var results = new ArrayList<BulkVideoResult>(items.size());
+        final var updatedIds = new HashSet<String>();
+
+        var offset = 0;
+        for (final var chunk : Lists.partition(items, CHUNK_SIZE)) {
+            results.addAll(saveChunk(chunk, offset, references, updatedIds));
+            offset += chunk.size();
+        }
+
+        final var failed = results.stream().filter(it -> it.status() == BulkVideoResult.Status.FAILED).count();
+        log.info("Video bulk save service completed {} {}", kv("saved", results.size() - failed), kv("failed", failed));
+        return results;
+    }
+
+    private List<BulkVideoResult> saveChunk(final List<BulkVideoItem> chunk, final int offset,
+                                            final References references, final Set<String> updatedIds) {
+        final var results = new BulkVideoResult[chunk.size()];
+
+        final var newVideos = new ArrayList<Video>(chunk.size());
+        final var updates = new LinkedHashMap<VideoID, UnaryOperator<Video>>();
+        final var positions = new ArrayList<Integer>(chunk.size());
+        final var ids = new ArrayList<String>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            final var item = chunk.get(i);
+            try {
+                if (item.isNew()) {
+                    final var video = newVideo(item, references);
+                    newVideos.add(video);
+                    ids.add(video.getId().getValue());
+                } else {
+                    updates.put(VideoID.from(item.id()), update(item, references, updatedIds));
+                    ids.add(item.id());
+                }
+                positions.add(i);
+            } catch (final DomainException | NotFoundException e) {
+                results[i] = BulkVideoResult.failed(offset + i, item.id(), e.getMessage());
+            }
+        }
+
+        if (positions.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        try {
+            // the adapter loads only the updated videos, once, in the transaction that writes the chunk
+            final var savedIds = this.videoPort.saveAll(newVideos, updates).stream()
+                    .map(it -> it.getId().getValue())
+                    .collect(Collectors.toSet());
+
+            for (int j = 0; j < positions.size(); j++) {
+                final int i = positions.get(j);
+                final var id = ids.get(j);
+                if (chunk.get(i).isNew()) {
+                    results[i] = BulkVideoResult.created(offset + i, id);
+                } else if (savedIds.contains(id)) {
+                    results[i] = BulkVideoResult.updated(offset + i, id);
+                } else {
+                    results[i] = BulkVideoResult.failed(offset + i, id,
+                            String.format("Video not found in database with id %s", id));
+                }
+            }
+        } catch (final Throwable t) {
+            log.error("error on bulk save videos [offset:%d, size:%d]".formatted(offset, positions.size()), t);
+
+            for (int j = 0; j < positions.size(); j++) {
+                final int i = positions.get(j);
+                results[i] = BulkVideoResult.failed(offset + i, chunk.get(i).id(),
+                        "An error on save videos was observed [videoId:%s]".formatted(ids.get(j)));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private Video newVideo(final BulkVideoItem item, final References references) {
+        requireFields(item);
+
+        return Video.newVideo(
+                item.title(),
+                item.description(),
+                Year.of(item.launchedAt()),
+                item.duration(),
+                item.opened(),
+                item.published(),
+                Rating.entryOf(item.rating()),
+                references.categories(item),
+                references.genres(item),
+                references.members(item)
+        );
+    }
+
+    private UnaryOperator<Video> update(final BulkVideoItem item, final References references,
+                                        final Set<String> updatedIds) {
+        requireFields(item);
+
+        final var launchedAt = Year.of(item.launchedAt());
+        final var rating = Rating.entryOf(item.rating());
+        final var categories = references.categories(item);
+        final var genres = references.genres(item);
+        final var members = references.members(item);
+
+        // a second update of the same video would race with the first one inside the batch
+        if (!updatedIds.add(item.id())) {
+            throw new DomainException("Video %s is repeated in the request".formatted(item.id()));
+        }
+
+        return video -> video.update(
+                item.title(),
+                item.description(),
+                launchedAt,
+                item.duration(),
+                item.opened(),
+                item.published(),
+                rating,
+                categories,
+                genres,
+                members
+        );
+    }
+
+    private static void requireFields(final BulkVideoItem item) {
+        requireField("title", item.title());
+        requireField("year_launched", item.launchedAt());
+        requireField("duration", item.duration());
+        requireField("opened", item.opened());
+        requireField("published", item.published());
+    }
+
+    private static void requireField(final String field, final Object value) {
+        if (value == null) {
+            throw new DomainException("'%s' should not be null".formatted(field));
+        }
+    }
+
+    private <T extends Identifier> Set<T> existing(final String aggregate, final List<BulkVideoItem> items,
+                                                   final Function<BulkVideoItem, Set<String>> ids,
+                                                   final Function<String, T> mapper,
+                                                   final Function<Iterable<T>, List<T>> existsByIds) {
+        final var referenced = items.stream()
+                .flatMap(it -> ids.apply(it).stream())
+                .map(mapper)
+                .collect(Collectors.toSet());
+
+        if (referenced.isEmpty()) {
+            return Set.of();
+        }
+
+        final var retrievedIds = new HashSet<>(existsByIds.apply(referenced));
+        log.info("%s ids retrieved from database {} {}".formatted(aggregate),
+                kv("referenced", referenced.size()), kv("found", retrievedIds.size()));
+        return retrievedIds;
+    }
+
+    private record References(Set<CategoryID> categories, Set<GenreID> genres, Set<CastMemberID> members) {
+
+        Set<CategoryID> categories(final BulkVideoItem item) {
+            return verified("categories", item.categories(), CategoryID::from, categories);
+        }
+
+        Set<GenreID> genres(final BulkVideoItem item) {
+            return verified("genres", item.genres(), GenreID::from, genres);
+        }
+
+        Set<CastMemberID> members(final BulkVideoItem item) {
+            return verified("cast members", item.members(), CastMemberID::from, members);
+        }
+
+        private static <T extends Identifier> Set<T> verified(final String aggregate, final Set<String> ids,
+                                                              final Function<String, T> mapper,
+                                                              final Set<T> existing) {
+            final var identifiers = ids.stream()
+                    .map(mapper)
+                    .collect(Collectors.toSet());
+
+            final var missingIds = identifiers.stream()
+                    .filter(it -> !existing.contains(it))
+                    .map(Identifier::getValue)
+                    .collect(Collectors.joining(", "));
+
+            if (!missingIds.isEmpty()) {
+                throw new NotFoundException("Some %s could not be found: %s".formatted(aggregate, missingIds));
+            }
+            return identifiers;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.codelabs.admin.catalago.application.service.video.bulk;
+
+import java.util.Set;
+
+/**
+ * A video of a bulk request, created when it has no id and updated otherwise.
+ */
+public record BulkVideoItem(
+        String id,
+        String title,
+        String description,
+        Integer launchedAt,
+        Double duration,
+        Boolean opened,
+        Boolean published,
+        String rating,
+        Set<String> categories,
+        Set<String> genres,
+        Set<String> members
+) {
+
+    public static BulkVideoItem with(
+            final String id,
+            final String title,
+            final String description,
+            final Integer launchedAt,
+            final Double duration,
+            final Boolean opened,
+            final Boolean published,
+            final String rating,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members
+    ) {
+        return new BulkVideoItem(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                opened,
+                published,
+                rating,
+                categories == null ? Set.of() : categories,
+                genres == null ? Set.of() : genres,
+                members == null ? Set.of() : members
+        );
+    }
+
+    public boolean isNew() {
+        return id == null || id.isBlank();
+    }
+}
@@ -0,0 +1,22 @@
+package com.codelabs.admin.catalago.application.service.video.bulk;
+
+public record BulkVideoResult(int index, String id, Status status, String error) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    public static BulkVideoResult created(final int index, final String id) {
+        return new BulkVideoResult(index, id, Status.CREATED, null);
+    }
+
+    public static BulkVideoResult updated(final int index, final String id) {
+        return new BulkVideoResult(index, id, Status.UPDATED, null);
+    }
+
+    public static BulkVideoResult failed(final int index, final String id, final String error) {
+        return new BulkVideoResult(index, id, Status.FAILED, error);
+    }
+}
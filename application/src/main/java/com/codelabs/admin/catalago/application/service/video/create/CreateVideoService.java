@@ -2,6 +2,7 @@ package com.codelabs.admin.catalago.application.service.video.create;
 
 import com.codelabs.admin.catalago.application.ports.in.CreateVideoUseCase;
 import com.codelabs.admin.catalago.application.ports.out.*;
+import com.codelabs.admin.catalago.application.service.video.media.store.ConcurrentMediaUpload;
 import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.UseCase;
@@ -19,6 +20,7 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,6 +37,7 @@ public class CreateVideoService implements CreateVideoUseCase {
     private final GenrePort genrePort;
     private final VideoPort videoPort;
     private final MediaResourcePort mediaResourcePort;
+    private final ExecutorService mediaStorageExecutor;
 
     @Override
     public Video create(final CreateVideoCommand command) {
@@ -72,34 +75,33 @@ public class CreateVideoService implements CreateVideoUseCase {
 
         try {
 
-            final var videoMedia = command.getVideo()
-                    .map(it -> this.mediaResourcePort.storeAudioVideo(id, VideoResource.with(VIDEO, it)))
-                    .orElse(null);
+            final var upload = ConcurrentMediaUpload.using(this.mediaStorageExecutor);
 
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.mediaResourcePort.storeAudioVideo(id, VideoResource.with(TRAILER, it)))
-                    .orElse(null);
+            final var videoMedia = upload.submit(command.getVideo(),
+                    it -> this.mediaResourcePort.storeAudioVideo(id, VideoResource.with(VIDEO, it)));
 
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.mediaResourcePort.storeImage(id, VideoResource.with(BANNER, it)))
-                    .orElse(null);
+            final var trailerMedia = upload.submit(command.getTrailer(),
+                    it -> this.mediaResourcePort.storeAudioVideo(id, VideoResource.with(TRAILER, it)));
 
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.mediaResourcePort.storeImage(id, VideoResource.with(THUMBNAIL, it)))
-                    .orElse(null);
+            final var bannerMedia = upload.submit(command.getBanner(),
+                    it -> this.mediaResourcePort.storeImage(id, VideoResource.with(BANNER, it)));
 
-            final var thumbHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.mediaResourcePort.storeImage(id, VideoResource.with(THUMBNAIL_HALF, it)))
-                    .orElse(null);
+            final var thumbnailMedia = upload.submit(command.getThumbnail(),
+                    it -> this.mediaResourcePort.storeImage(id, VideoResource.with(THUMBNAIL, it)));
+
+            final var thumbHalfMedia = upload.submit(command.getThumbnailHalf(),
+                    it -> this.mediaResourcePort.storeImage(id, VideoResource.with(THUMBNAIL_HALF, it)));
+
+            upload.await();
 
             log.info("cloud media storage completed successfully. {}", id);
 
-            return videoPort.save(video
-                    .updateVideoMedia(videoMedia)
-                    .updateTrailerMedia(trailerMedia)
-                    .updateBannerMedia(bannerMedia)
-                    .updateThumbnailMedia(thumbnailMedia)
-                    .updateThumbnailHalfMedia(thumbHalfMedia));
+            return videoPort.create(video
+                    .updateVideoMedia(videoMedia.get())
+                    .updateTrailerMedia(trailerMedia.get())
+                    .updateBannerMedia(bannerMedia.get())
+                    .updateThumbnailMedia(thumbnailMedia.get())
+                    .updateThumbnailHalfMedia(thumbHalfMedia.get()));
 
         } catch (final Throwable t) {
             this.mediaResourcePort.clearResources(id);
@@ -24,8 +24,19 @@ public class DeleteVideoService implements DeleteVideoUseCase {
 
         final var videoId = VideoID.from(id);
 
-        this.videoPort.deleteById(videoId);
-        this.mediaResourcePort.clearResources(videoId);
+        if (this.videoPort.deleteById(videoId) == 0) {
+            log.info(append("id", id), "Video not found, there are no medias to clear.");
+            return;
+        }
+
+        final var report = this.mediaResourcePort.clearResources(videoId);
+
+        if (report.isComplete()) {
+            log.info(append("deleted", report.deleted()), "Video medias cleared.");
+        } else {
+            log.warn(append("deleted", report.deleted()).and(append("failed", report.failed())),
+                    "Some video medias could not be cleared and were left in the storage.");
+        }
 
         log.info("Delete video service completed successfully.");
     }
@@ -0,0 +1,14 @@
+package com.codelabs.admin.catalago.application.service.video.media.complete;
+
+public record CompleteMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId,
+        String checksum
+) {
+
+    public static CompleteMediaUploadCommand with(final String anId, final String aType, final String anUploadId,
+                                                  final String aChecksum) {
+        return new CompleteMediaUploadCommand(anId, aType, anUploadId, aChecksum);
+    }
+}
@@ -0,0 +1,72 @@
+package com.codelabs.admin.catalago.application.service.video.media.complete;
+
+import com.codelabs.admin.catalago.application.ports.in.CompleteMediaUploadUseCase;
+import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.common.exceptions.ChecksumMismatchException;
+import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.stereotype.UseCase;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.video.AudioVideoMedia;
+import com.codelabs.admin.catalago.domain.video.ImageMedia;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
+import com.codelabs.admin.catalago.domain.video.Video;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static net.logstash.logback.marker.Markers.append;
+
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class CompleteMediaUploadService implements CompleteMediaUploadUseCase {
+
+    private final VideoPort videoPort;
+    private final MediaResourcePort mediaResourcePort;
+
+    @Override
+    public Video complete(final CompleteMediaUploadCommand command) {
+        log.info(append("command", command), "Completing direct media upload");
+
+        final var id = VideoID.from(command.videoId());
+        final var type = VideoMediaType.entryOf(command.mediaType());
+
+        final var video = this.videoPort.getById(id);
+
+        final var upload = this.mediaResourcePort.getUpload(id, command.uploadId())
+                .orElseThrow(() -> new NotFoundException("Upload %s of %s was not found for video %s"
+                        .formatted(command.uploadId(), type, id.getValue())));
+
+        // the upload still sits on its own key, a mismatch leaves the media in use untouched
+        if (!upload.checksum().equals(command.checksum())) {
+            throw new ChecksumMismatchException("Checksum of %s for video %s does not match the uploaded content"
+                    .formatted(type, id.getValue()));
+        }
+
+        final var stored = this.mediaResourcePort.completeUpload(id, type, upload);
+
+        recordMedia(video, type, stored);
+        log.info(append("video", video), "Uploaded media recorded on the video.");
+
+        return this.videoPort.save(video);
+    }
+
+    private void recordMedia(final Video video, final VideoMediaType type, final StoredMedia stored) {
+        switch (type) {
+            case VIDEO -> video.updateVideoMedia(audioVideo(stored));
+            case TRAILER -> video.updateTrailerMedia(audioVideo(stored));
+            case BANNER -> video.updateBannerMedia(image(stored));
+            case THUMBNAIL -> video.updateThumbnailMedia(image(stored));
+            case THUMBNAIL_HALF -> video.updateThumbnailHalfMedia(image(stored));
+        }
+    }
+
+    private AudioVideoMedia audioVideo(final StoredMedia stored) {
+        return AudioVideoMedia.with(stored.checksum(), stored.name(), stored.location());
+    }
+
+    private ImageMedia image(final StoredMedia stored) {
+        return ImageMedia.with(stored.checksum(), stored.name(), stored.location());
+    }
+}
@@ -1,11 +1,18 @@
 package com.codelabs.admin.catalago.application.service.video.media.get;
 
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+
 public record GetMediaCommand(
         String videoId,
-        String mediaType
+        String mediaType,
+        ByteRange range
 ) {
 
     public static GetMediaCommand with(final String anId, final String aType) {
-        return new GetMediaCommand(anId, aType);
+        return new GetMediaCommand(anId, aType, null);
+    }
+
+    public static GetMediaCommand with(final String anId, final String aType, final ByteRange aRange) {
+        return new GetMediaCommand(anId, aType, aRange);
     }
 }
@@ -2,17 +2,21 @@ package com.codelabs.admin.catalago.application.service.video.media.get;
 
 import com.codelabs.admin.catalago.application.ports.in.GetMediaUseCase;
 import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
 import com.codelabs.admin.catalago.common.stereotype.UseCase;
 import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.video.Resource;
 import com.codelabs.admin.catalago.domain.video.VideoID;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
+
 @UseCase
 @RequiredArgsConstructor
 public class GetMediaService implements GetMediaUseCase {
 
     private final MediaResourcePort mediaResourcePort;
+    private final VideoPort videoPort;
 
     @Override
     public Resource getMedia(final GetMediaCommand command) {
@@ -21,8 +25,16 @@ public class GetMediaService implements GetMediaUseCase {
         final var type = VideoMediaType.entryOf(command.mediaType());
 
         final var resource =
-                this.mediaResourcePort.getResource(id, type);
+                this.mediaResourcePort.getResource(id, type, command.range());
 
         return resource;
     }
+
+    @Override
+    public Optional<String> getChecksum(final GetMediaCommand command) {
+        // the checksum persisted with the video is enough to validate caches, the storage is not touched
+        return this.videoPort.getMediaChecksum(
+                VideoID.from(command.videoId()),
+                VideoMediaType.entryOf(command.mediaType()));
+    }
 }
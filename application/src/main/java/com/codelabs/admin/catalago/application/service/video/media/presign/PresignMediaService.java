@@ -0,0 +1,61 @@
+package com.codelabs.admin.catalago.application.service.video.media.presign;
+
+import com.codelabs.admin.catalago.application.ports.in.PresignMediaUseCase;
+import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.application.service.video.media.get.GetMediaCommand;
+import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.stereotype.UseCase;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static net.logstash.logback.marker.Markers.append;
+
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class PresignMediaService implements PresignMediaUseCase {
+
+    private final VideoPort videoPort;
+    private final MediaResourcePort mediaResourcePort;
+
+    @Override
+    public PresignedUrl presignUpload(final PresignMediaUploadCommand command) {
+        log.info(append("command", command), "Presigning media upload");
+
+        final var id = VideoID.from(command.videoId());
+        final var type = VideoMediaType.entryOf(command.mediaType());
+
+        if (this.videoPort.getUpdatedAt(id).isEmpty()) {
+            throw new NotFoundException("Video not found in database with id %s".formatted(id.getValue()));
+        }
+
+        final var upload = MediaUpload.with(
+                command.name(),
+                command.contentType(),
+                command.contentLength(),
+                command.checksum()
+        );
+
+        return this.mediaResourcePort.presignUpload(id, type, upload);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(final GetMediaCommand command) {
+        log.info(append("command", command), "Presigning media download");
+
+        final var id = VideoID.from(command.videoId());
+        final var type = VideoMediaType.entryOf(command.mediaType());
+
+        // only media already recorded on the video can be downloaded
+        if (this.videoPort.getMediaChecksum(id, type).isEmpty()) {
+            throw new NotFoundException("Resource %s not found for video %s".formatted(type, id.getValue()));
+        }
+
+        return this.mediaResourcePort.presignDownload(id, type);
+    }
+}
@@ -0,0 +1,22 @@
+package com.codelabs.admin.catalago.application.service.video.media.presign;
+
+public record PresignMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String name,
+        String contentType,
+        long contentLength,
+        String checksum
+) {
+
+    public static PresignMediaUploadCommand with(
+            final String anId,
+            final String aType,
+            final String aName,
+            final String aContentType,
+            final long aContentLength,
+            final String aChecksum
+    ) {
+        return new PresignMediaUploadCommand(anId, aType, aName, aContentType, aContentLength, aChecksum);
+    }
+}
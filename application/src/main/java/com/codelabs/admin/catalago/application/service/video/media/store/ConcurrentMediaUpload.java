@@ -0,0 +1,86 @@
+package com.codelabs.admin.catalago.application.service.video.media.store;
+
+import com.codelabs.admin.catalago.domain.video.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Fans the media uploads of a single video out to a bounded executor.
+ * <p>
+ * When one upload fails the remaining ones are cancelled and {@link #await()} only returns
+ * after every started upload has finished, so the caller can safely clear the stored resources.
+ */
+public final class ConcurrentMediaUpload {
+
+    private final CompletionService<Object> completionService;
+    private final List<Future<?>> tasks = new ArrayList<>();
+    private final Object lock = new Object();
+
+    private volatile boolean aborted;
+    private int running;
+
+    private ConcurrentMediaUpload(final Executor executor) {
+        this.completionService = new ExecutorCompletionService<>(executor);
+    }
+
+    public static ConcurrentMediaUpload using(final Executor executor) {
+        return new ConcurrentMediaUpload(executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> submit(final Optional<Resource> resource, final Function<Resource, T> store) {
+        if (resource.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final var task = this.completionService.submit(() -> run(() -> store.apply(resource.get())));
+        this.tasks.add(task);
+
+        return (Future<T>) task;
+    }
+
+    public void await() throws InterruptedException, ExecutionException {
+        try {
+            for (int i = 0; i < this.tasks.size(); i++) {
+                this.completionService.take().get();
+            }
+        } catch (final InterruptedException | ExecutionException | RuntimeException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    private Object run(final Callable<Object> store) throws Exception {
+        synchronized (this.lock) {
+            this.running++;
+        }
+
+        try {
+            if (this.aborted) {
+                throw new CancellationException("Media upload aborted");
+            }
+
+            return store.call();
+        } finally {
+            synchronized (this.lock) {
+                this.running--;
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    private void abort() throws InterruptedException {
+        this.aborted = true;
+        this.tasks.forEach(task -> task.cancel(true));
+
+        synchronized (this.lock) {
+            while (this.running > 0) {
+                this.lock.wait();
+            }
+        }
+    }
+}
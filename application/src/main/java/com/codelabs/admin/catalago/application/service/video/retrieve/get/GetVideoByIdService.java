@@ -8,6 +8,9 @@ import com.codelabs.admin.catalago.domain.video.VideoID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static net.logstash.logback.marker.Markers.append;
 
 @UseCase
@@ -26,4 +29,9 @@ public class GetVideoByIdService implements GetVideoByIdUseCase {
 
         return video;
     }
+
+    @Override
+    public Optional<Instant> getLastModified(final String id) {
+        return this.videoPort.getUpdatedAt(VideoID.from(id));
+    }
 }
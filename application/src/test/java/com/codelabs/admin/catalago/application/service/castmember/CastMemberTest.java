@@ -38,7 +38,7 @@ public class CastMemberTest {
 
         final var castMember = CastMember.newMember(expectedName, expectedType);
 
-        when(castMemberPort.save(any()))
+        when(castMemberPort.create(any()))
                 .thenAnswer(returnsFirstArg());
 
         // when
@@ -48,7 +48,7 @@ public class CastMemberTest {
         Assertions.assertNotNull(actualResponse);
         Assertions.assertNotNull(actualResponse.getId());
 
-        verify(castMemberPort).save(argThat(member ->
+        verify(castMemberPort).create(argThat(member ->
                 Objects.nonNull(member.getId())
                         && Objects.equals(expectedName, member.getName())
                         && Objects.equals(expectedType, member.getType())
@@ -38,7 +38,7 @@ public class CategoryServiceTest {
         final var category =
                 Category.newCategory(expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryPort.save(category))
+        when(categoryPort.create(category))
                 .thenAnswer(returnsFirstArg());
 
         final var response = service.create(category);
@@ -46,7 +46,7 @@ public class CategoryServiceTest {
         Assertions.assertNotNull(response);
         Assertions.assertNotNull(response.getId());
 
-        Mockito.verify(categoryPort, times(1)).save(argThat(savedCategory ->
+        Mockito.verify(categoryPort, times(1)).create(argThat(savedCategory ->
                 Objects.equals(expectedName, savedCategory.getName())
                         && Objects.equals(expectedDescription, savedCategory.getDescription())
                         && Objects.equals(expectedIsActive, savedCategory.isActive())
@@ -45,7 +45,7 @@ public class GenreServiceTest {
                 Genre.newGenre(expectName, expectedIsActive);
         newGenre.addCategories(expectedCategories);
 
-        when(genrePort.save(any()))
+        when(genrePort.create(any()))
                 .thenReturn(newGenre);
 
         // when
@@ -55,7 +55,7 @@ public class GenreServiceTest {
         Assertions.assertNotNull(actualResponse);
         Assertions.assertNotNull(actualResponse.getId());
 
-        Mockito.verify(genrePort, times(1)).save(argThat(genre ->
+        Mockito.verify(genrePort, times(1)).create(argThat(genre ->
                 Objects.equals(expectName, genre.getName())
                         && Objects.equals(expectedIsActive, genre.isActive())
                         && Objects.equals(expectedCategories, genre.getCategories())
@@ -77,7 +77,7 @@ public class GenreServiceTest {
                 Genre.newGenre(expectName, expectedIsActive);
         newGenre.addCategories(expectedCategories);
 
-        when(genrePort.save(any()))
+        when(genrePort.create(any()))
                 .thenReturn(newGenre);
 
         // when
@@ -87,7 +87,7 @@ public class GenreServiceTest {
         Assertions.assertNotNull(actualResponse);
         Assertions.assertNotNull(actualResponse.getId());
 
-        Mockito.verify(genrePort, times(1)).save(argThat(genre ->
+        Mockito.verify(genrePort, times(1)).create(argThat(genre ->
                 Objects.equals(expectName, genre.getName())
                         && Objects.equals(expectedIsActive, genre.isActive())
                         && Objects.equals(expectedCategories, genre.getCategories())
@@ -128,7 +128,7 @@ public class GenreServiceTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
         Mockito.verify(categoryPort, times(1)).existsByIds(any());
-        Mockito.verify(genrePort, times(0)).save(any());
+        Mockito.verify(genrePort, times(0)).create(any());
     }
 
     @Test
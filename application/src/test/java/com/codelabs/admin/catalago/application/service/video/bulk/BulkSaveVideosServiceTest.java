@@ -0,0 +1,155 @@
+package com.codelabs.admin.catalago.application.service.video.bulk;
+
+import com.codelabs.admin.catalago.application.ports.out.CastMemberPort;
+import com.codelabs.admin.catalago.application.ports.out.CategoryPort;
+import com.codelabs.admin.catalago.application.ports.out.GenrePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.application.service.Fixture;
+import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.video.Video;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkSaveVideosServiceTest {
+
+    private BulkSaveVideosService service;
+    private CategoryPort categoryPort;
+    private GenrePort genrePort;
+    private VideoPort videoPort;
+    private CastMemberPort castMemberPort;
+
+    @BeforeEach
+    void setup() {
+        this.categoryPort = mock(CategoryPort.class);
+        this.genrePort = mock(GenrePort.class);
+        this.videoPort = mock(VideoPort.class);
+        this.castMemberPort = mock(CastMemberPort.class);
+        this.service = new BulkSaveVideosService(this.categoryPort, this.castMemberPort, this.genrePort, this.videoPort);
+    }
+
+    @Test
+    public void givenItemsWithAMissingCategory_whenCallsSaveAll_shouldValidateOnceAndFailOnlyThatItem() {
+        // given
+        final var filmes = Fixture.Categories.filmes().getId();
+        final var missing = CategoryID.unique();
+        final var existing = Fixture.video();
+
+        final var command = BulkSaveVideosCommand.with(List.of(
+                item(null, Set.of(filmes.getValue())),
+                item(null, Set.of(filmes.getValue(), missing.getValue())),
+                item(existing.getId().getValue(), Set.of())
+        ));
+
+        when(categoryPort.existsByIds(any()))
+                .thenReturn(List.of(filmes));
+
+        when(videoPort.saveAll(any(), any()))
+                .thenAnswer(invocation -> saved(invocation.getArgument(0), invocation.getArgument(1), existing));
+
+        // when
+        final var actualResults = service.saveAll(command);
+
+        // then
+        Assertions.assertEquals(3, actualResults.size());
+        Assertions.assertEquals(BulkVideoResult.Status.CREATED, actualResults.get(0).status());
+        Assertions.assertEquals(BulkVideoResult.Status.FAILED, actualResults.get(1).status());
+        Assertions.assertTrue(actualResults.get(1).error().contains(missing.getValue()));
+        Assertions.assertEquals(BulkVideoResult.Status.UPDATED, actualResults.get(2).status());
+        Assertions.assertEquals(existing.getId().getValue(), actualResults.get(2).id());
+
+        verify(categoryPort, times(1)).existsByIds(any());
+        verify(genrePort, never()).existsByIds(any());
+        verify(castMemberPort, never()).existsByIds(any());
+        verify(videoPort, times(1)).saveAll(argThat(videos -> videos.size() == 1),
+                argThat(updates -> updates.keySet().equals(Set.of(existing.getId()))));
+    }
+
+    @Test
+    public void givenAnUpdateOfAMissingVideo_whenCallsSaveAll_shouldFailOnlyThatItem() {
+        // given
+        final var existing = Fixture.video();
+        final var missing = VideoID.unique();
+
+        final var command = BulkSaveVideosCommand.with(List.of(
+                item(missing.getValue(), Set.of()),
+                item(existing.getId().getValue(), Set.of())
+        ));
+
+        when(videoPort.saveAll(any(), any()))
+                .thenAnswer(invocation -> saved(invocation.getArgument(0), invocation.getArgument(1), existing));
+
+        // when
+        final var actualResults = service.saveAll(command);
+
+        // then
+        Assertions.assertEquals(2, actualResults.size());
+        Assertions.assertEquals(BulkVideoResult.Status.FAILED, actualResults.get(0).status());
+        Assertions.assertEquals("Video not found in database with id %s".formatted(missing.getValue()),
+                actualResults.get(0).error());
+        Assertions.assertEquals(BulkVideoResult.Status.UPDATED, actualResults.get(1).status());
+
+        verify(videoPort, times(1)).saveAll(any(), any());
+    }
+
+    @Test
+    public void givenAFailingChunk_whenCallsSaveAll_shouldReportItsItemsAsFailed() {
+        // given
+        final var command = BulkSaveVideosCommand.with(List.of(
+                item(null, Set.of()),
+                item(null, Set.of())
+        ));
+
+        when(videoPort.saveAll(any(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        // when
+        final var actualResults = service.saveAll(command);
+
+        // then
+        Assertions.assertEquals(2, actualResults.size());
+        for (int i = 0; i < actualResults.size(); i++) {
+            final var actualResult = actualResults.get(i);
+            Assertions.assertEquals(i, actualResult.index());
+            Assertions.assertEquals(BulkVideoResult.Status.FAILED, actualResult.status());
+            Assertions.assertNull(actualResult.id());
+            Assertions.assertTrue(actualResult.error().startsWith("An error on save videos was observed [videoId:"));
+        }
+    }
+
+    private static List<Video> saved(final List<Video> newVideos, final Map<VideoID, UnaryOperator<Video>> updates,
+                                     final Video existing) {
+        final var saved = new ArrayList<>(newVideos);
+        Optional.ofNullable(updates.get(existing.getId()))
+                .ifPresent(update -> saved.add(update.apply(existing)));
+        return saved;
+    }
+
+    private BulkVideoItem item(final String id, final Set<String> categories) {
+        return BulkVideoItem.with(
+                id,
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                categories,
+                Set.of(),
+                Set.of()
+        );
+    }
+}
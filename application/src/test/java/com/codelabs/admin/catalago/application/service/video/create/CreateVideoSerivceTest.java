@@ -2,12 +2,14 @@ package com.codelabs.admin.catalago.application.service.video.create;
 
 import com.codelabs.admin.catalago.application.ports.out.*;
 import com.codelabs.admin.catalago.application.service.Fixture;
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
 import com.codelabs.admin.catalago.domain.Identifier;
 import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.video.AudioVideoMedia;
 import com.codelabs.admin.catalago.domain.video.ImageMedia;
 import com.codelabs.admin.catalago.domain.video.Resource;
 import com.codelabs.admin.catalago.domain.video.VideoResource;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,8 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -31,6 +35,7 @@ public class CreateVideoSerivceTest {
     private VideoPort videoPort;
     private CastMemberPort castMemberPort;
     private MediaResourcePort mediaResourcePort;
+    private ExecutorService mediaStorageExecutor;
 
     @BeforeEach
     void setup() {
@@ -39,8 +44,14 @@ public class CreateVideoSerivceTest {
         this.videoPort = mock(VideoPort.class);
         this.castMemberPort = mock(CastMemberPort.class);
         this.mediaResourcePort = mock(MediaResourcePort.class);
+        this.mediaStorageExecutor = Executors.newFixedThreadPool(5);
         this.service = new CreateVideoService(this.categoryPort, this.castMemberPort,
-                this.genrePort, this.videoPort, this.mediaResourcePort);
+                this.genrePort, this.videoPort, this.mediaResourcePort, this.mediaStorageExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaStorageExecutor.shutdownNow();
     }
 
     @Test
@@ -95,7 +106,7 @@ public class CreateVideoSerivceTest {
         mockImageMedia();
         mockAudioVideoMedia();
 
-        when(videoPort.save(any()))
+        when(videoPort.create(any()))
                 .thenAnswer(returnsFirstArg());
 
         // when
@@ -105,7 +116,7 @@ public class CreateVideoSerivceTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.getId());
 
-        verify(videoPort).save(argThat(actualVideo ->
+        verify(videoPort).create(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
                         && Objects.equals(expectedDescription, actualVideo.getDescription())
                         && Objects.equals(expectedLaunchYear, actualVideo.getLaunchedAt())
@@ -124,6 +135,45 @@ public class CreateVideoSerivceTest {
         ));
     }
 
+    @Test
+    public void givenAValidCommand_whenCallsCreateVideoAndAnUploadFails_shouldClearResourcesAndNotSaveVideo() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed";
+
+        final var command = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        mockAudioVideoMedia();
+
+        when(mediaResourcePort.storeImage(any(), any()))
+                .thenThrow(new IllegalStateException("storage unavailable"));
+
+        // when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class,
+                () -> service.create(command));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+
+        verify(mediaResourcePort).clearResources(any());
+        verify(videoPort, never()).create(any());
+    }
+
     protected Set<String> asString(final Set<? extends Identifier> ids) {
         return ids.stream()
                 .map(Identifier::getValue)
@@ -0,0 +1,59 @@
+package com.codelabs.admin.catalago.application.service.video.delete;
+
+import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeleteVideoServiceTest {
+
+    private DeleteVideoService service;
+    private VideoPort videoPort;
+    private MediaResourcePort mediaResourcePort;
+
+    @BeforeEach
+    void setup() {
+        this.videoPort = mock(VideoPort.class);
+        this.mediaResourcePort = mock(MediaResourcePort.class);
+        this.service = new DeleteVideoService(this.videoPort, this.mediaResourcePort);
+    }
+
+    @Test
+    public void givenAnExistingVideo_whenCallsDeleteById_shouldClearItsMedias() {
+        // given
+        final var expectedId = VideoID.unique();
+
+        when(videoPort.deleteById(any())).thenReturn(1);
+        when(mediaResourcePort.clearResources(any())).thenReturn(MediaCleanupReport.with(List.of("key"), List.of()));
+
+        // when
+        this.service.deleteById(expectedId.getValue());
+
+        // then
+        verify(videoPort).deleteById(eq(expectedId));
+        verify(mediaResourcePort).clearResources(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnUnknownVideo_whenCallsDeleteById_shouldNotTouchTheStorage() {
+        // given
+        final var expectedId = VideoID.unique();
+
+        when(videoPort.deleteById(any())).thenReturn(0);
+
+        // when
+        this.service.deleteById(expectedId.getValue());
+
+        // then
+        verify(videoPort).deleteById(eq(expectedId));
+        verify(mediaResourcePort, never()).clearResources(any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.codelabs.admin.catalago.application.service.video.media.complete;
+
+import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.application.ports.out.VideoPort;
+import com.codelabs.admin.catalago.application.service.Fixture;
+import com.codelabs.admin.catalago.common.exceptions.ChecksumMismatchException;
+import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CompleteMediaUploadServiceTest {
+
+    private CompleteMediaUploadService service;
+    private VideoPort videoPort;
+    private MediaResourcePort mediaResourcePort;
+
+    @BeforeEach
+    void setup() {
+        this.videoPort = mock(VideoPort.class);
+        this.mediaResourcePort = mock(MediaResourcePort.class);
+        this.service = new CompleteMediaUploadService(this.videoPort, this.mediaResourcePort);
+    }
+
+    @Test
+    public void givenAnUploadedMediaWithTheSameChecksum_whenCallsComplete_shouldRecordTheMediaOnTheVideo() {
+        // given
+        final var video = Fixture.Videos.corridaMortal();
+        final var expectedId = video.getId();
+        final var expectedChecksum = Fixture.checksum();
+        final var expectedName = "trailer.mp4";
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+        final var expectedLocation = "videoId-%s/type-TRAILER".formatted(expectedId.getValue());
+        final var upload = StoredMedia.with("videoId-%s/uploads/%s".formatted(expectedId.getValue(), expectedUploadId),
+                expectedChecksum, expectedName, 10);
+
+        when(videoPort.getById(any())).thenReturn(video);
+        when(mediaResourcePort.getUpload(any(), any())).thenReturn(Optional.of(upload));
+        when(mediaResourcePort.completeUpload(any(), any(), any()))
+                .thenReturn(StoredMedia.with(expectedLocation, expectedChecksum, expectedName, 10));
+        when(videoPort.save(any())).thenAnswer(returnsFirstArg());
+
+        final var command = CompleteMediaUploadCommand.with(expectedId.getValue(), "trailer", expectedUploadId,
+                expectedChecksum);
+
+        // when
+        final var actualVideo = this.service.complete(command);
+
+        // then
+        final var actualTrailer = actualVideo.getTrailer().orElseThrow();
+        Assertions.assertEquals(expectedChecksum, actualTrailer.getChecksum());
+        Assertions.assertEquals(expectedName, actualTrailer.getName());
+        Assertions.assertEquals(expectedLocation, actualTrailer.getRawLocation());
+
+        verify(mediaResourcePort).getUpload(eq(expectedId), eq(expectedUploadId));
+        verify(mediaResourcePort).completeUpload(eq(expectedId), eq(VideoMediaType.TRAILER), eq(upload));
+        verify(videoPort).save(eq(video));
+    }
+
+    @Test
+    public void givenAnUploadedMediaWithAnotherChecksum_whenCallsComplete_shouldNotRecordTheMedia() {
+        // given
+        final var video = Fixture.Videos.corridaMortal();
+        final var expectedId = video.getId();
+
+        when(videoPort.getById(any())).thenReturn(video);
+        when(mediaResourcePort.getUpload(any(), any()))
+                .thenReturn(Optional.of(StoredMedia.with("location", Fixture.checksum(), "banner.png", 10)));
+
+        final var command = CompleteMediaUploadCommand.with(expectedId.getValue(), "banner",
+                "0123456789abcdef0123456789abcdef", "another");
+
+        // then
+        Assertions.assertThrows(ChecksumMismatchException.class, () -> this.service.complete(command));
+        verify(mediaResourcePort, never()).completeUpload(any(), any(), any());
+        verify(videoPort, never()).save(any());
+    }
+
+    @Test
+    public void givenAMediaThatWasNotUploaded_whenCallsComplete_shouldThrowNotFound() {
+        // given
+        final var video = Fixture.Videos.corridaMortal();
+
+        when(videoPort.getById(any())).thenReturn(video);
+        when(mediaResourcePort.getUpload(any(), any())).thenReturn(Optional.empty());
+
+        final var command = CompleteMediaUploadCommand.with(video.getId().getValue(), "video",
+                "0123456789abcdef0123456789abcdef", Fixture.checksum());
+
+        // then
+        Assertions.assertThrows(NotFoundException.class, () -> this.service.complete(command));
+        verify(videoPort, never()).save(any());
+    }
+}
@@ -0,0 +1,8 @@
+package com.codelabs.admin.catalago.common.exceptions;
+
+public class ChecksumMismatchException extends RuntimeException {
+
+    public ChecksumMismatchException(final String message) {
+        super(message);
+    }
+}
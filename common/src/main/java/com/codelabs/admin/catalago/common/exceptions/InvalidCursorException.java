@@ -0,0 +1,8 @@
+package com.codelabs.admin.catalago.common.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.codelabs.admin.catalago.common.exceptions;
+
+public class NotSupportedException extends RuntimeException {
+
+    public NotSupportedException(final String message) {
+        super(message);
+    }
+}
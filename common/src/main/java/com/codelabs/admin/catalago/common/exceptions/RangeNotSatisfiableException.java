@@ -0,0 +1,16 @@
+package com.codelabs.admin.catalago.common.exceptions;
+
+public class RangeNotSatisfiableException extends RuntimeException {
+
+    // the 416 answers with it, so the client can ask again for a range that exists
+    private final long totalLength;
+
+    public RangeNotSatisfiableException(final String message, final long totalLength) {
+        super(message);
+        this.totalLength = totalLength;
+    }
+
+    public long getTotalLength() {
+        return totalLength;
+    }
+}
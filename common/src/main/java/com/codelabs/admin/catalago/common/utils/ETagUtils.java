@@ -0,0 +1,35 @@
+package com.codelabs.admin.catalago.common.utils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public final class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    public static String strong(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * Builds a validator from the last modification of an aggregate. Microseconds are used
+     * because it is the precision stored by the database, Last-Modified alone only carries seconds.
+     */
+    public static String strong(final Instant updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return strong(Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)));
+    }
+
+    public static boolean strongMatch(final String header, final String eTag) {
+        if (header == null || eTag == null) {
+            return false;
+        }
+        return !header.startsWith("W/") && header.trim().equals(eTag);
+    }
+}
@@ -1,24 +1,67 @@
 package com.codelabs.admin.catalago.common.utils;
 
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Base64;
 
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final HashFunction DIGEST = Hashing.sha256();
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private HashingUtils() {
     }
 
     public static String checksum(final byte[] content) {
-        int crc32c = Hashing.crc32c().hashBytes(content).asInt();
+        return encode(CHECKSUM.hashBytes(content).asInt());
+    }
+
+    public static String checksum(final byte[] content, final int offset, final int length) {
+        return encode(CHECKSUM.hashBytes(content, offset, length).asInt());
+    }
+
+    public static String checksum(final InputStream content) throws IOException {
+        final Hasher hasher = CHECKSUM.newHasher();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            hasher.putBytes(buffer, 0, read);
+        }
+
+        return encode(hasher.hash().asInt());
+    }
 
+    /**
+     * Reads the content once and returns its CRC32C checksum together with its SHA-256 digest, the latter hex encoded.
+     */
+    public static Hashes hashes(final InputStream content) throws IOException {
+        final Hasher checksum = CHECKSUM.newHasher();
+        final Hasher digest = DIGEST.newHasher();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            checksum.putBytes(buffer, 0, read);
+            digest.putBytes(buffer, 0, read);
+        }
+
+        return new Hashes(encode(checksum.hash().asInt()), digest.hash().toString());
+    }
+
+    private static String encode(final int crc32c) {
         ByteBuffer buffer = ByteBuffer.allocate(4);
         buffer.putInt(crc32c);
 
         return Base64.getEncoder().encodeToString(buffer.array());
     }
+
+    public record Hashes(String checksum, String digest) {
+    }
 }
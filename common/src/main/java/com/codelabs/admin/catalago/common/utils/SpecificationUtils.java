@@ -1,9 +1,15 @@
 package com.codelabs.admin.catalago.common.utils;
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.support.DefaultFormattingConversionService;
 
 public final class SpecificationUtils {
 
+    private static final ConversionService CONVERSION = new DefaultFormattingConversionService();
+
     private SpecificationUtils() {
     }
 
@@ -11,6 +17,32 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    /**
+     * Seek predicate for a keyset page ordered by {@code (prop, id)}, both in the same direction.
+     * <p>
+     * Nulls follow the MySQL ordering: first on ascending sorts and last on descending ones.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final String prop, final String value, final String id, final boolean ascending) {
+        return (root, query, cb) -> {
+            final Path<Comparable> sortPath = root.get(prop);
+            final Path<String> idPath = root.get("id");
+
+            final Predicate idBeyond = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+
+            if (value == null) {
+                final var tie = cb.and(cb.isNull(sortPath), idBeyond);
+                return ascending ? cb.or(cb.isNotNull(sortPath), tie) : tie;
+            }
+
+            final Comparable typed = (Comparable) CONVERSION.convert(value, sortPath.getJavaType());
+            final var beyond = ascending ? cb.greaterThan(sortPath, typed) : cb.lessThan(sortPath, typed);
+            final var tie = cb.and(cb.equal(sortPath, typed), idBeyond);
+
+            return ascending ? cb.or(beyond, tie) : cb.or(beyond, tie, cb.isNull(sortPath));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
@@ -1,7 +1,12 @@
 package com.codelabs.admin.catalago.common.utils;
 
+import java.util.Arrays;
+
 public final class SqlUtils {
 
+    // MySQL ngram_token_size default, the parser indexes no word shorter than it
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private SqlUtils() {
     }
 
@@ -14,4 +19,18 @@ public final class SqlUtils {
         if (term == null) return null;
         return "%" + term + "%";
     }
+
+    /**
+     * Quotes the term as a single full-text phrase, dropping the characters that would
+     * otherwise be read as boolean mode operators. Returns null when no word of the term is long
+     * enough to be an n-gram, such a phrase would match nothing.
+     */
+    public static String phrase(final String term) {
+        if (term == null || term.isBlank()) return null;
+
+        final var stripped = term.replaceAll("[\"*+\\-<>()~@]", " ").trim();
+        if (Arrays.stream(stripped.split("\\s+")).noneMatch(word -> word.length() >= NGRAM_TOKEN_SIZE)) return null;
+
+        return "\"" + stripped + "\"";
+    }
 }
@@ -0,0 +1,89 @@
+package com.codelabs.admin.catalago.common.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+public class IdUtilsTest {
+
+    @AfterEach
+    void cleanUp() {
+        IdUtils.useVersion(IdUtils.Version.V7);
+    }
+
+    @Test
+    public void givenTheDefaultVersion_whenCallsGenerate_shouldReturnAVersion7UuidWithTheCurrentMillis() {
+        // given
+        final var before = System.currentTimeMillis();
+
+        // when
+        final var actualId = IdUtils.generate();
+
+        // then
+        final var after = System.currentTimeMillis();
+        final var actualMillis = actualId.getMostSignificantBits() >>> 16;
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertTrue(actualMillis >= before && actualMillis <= after);
+    }
+
+    @Test
+    public void givenIdsCreatedInDifferentMillis_whenComparingThem_shouldFollowTheCreationOrder() throws InterruptedException {
+        // given
+        final var anId = IdUtils.generate();
+        Thread.sleep(2);
+        final var anotherId = IdUtils.generate();
+
+        // when
+        final var actualTextOrder = anId.toString().compareTo(anotherId.toString());
+        final var actualBinaryOrder = Long.compareUnsigned(anId.getMostSignificantBits(), anotherId.getMostSignificantBits());
+
+        // then
+        Assertions.assertTrue(actualTextOrder < 0);
+        Assertions.assertTrue(actualBinaryOrder < 0);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillis_whenCallsGenerate_shouldNotRepeatThem() {
+        // given
+        final var expectedSize = 10_000;
+        final var ids = new HashSet<UUID>();
+
+        // when
+        for (int i = 0; i < expectedSize; i++) {
+            ids.add(IdUtils.timeOrdered());
+        }
+
+        // then
+        Assertions.assertEquals(expectedSize, ids.size());
+        Assertions.assertTrue(ids.stream().allMatch(it -> it.version() == 7 && it.variant() == 2));
+    }
+
+    @Test
+    public void givenVersion4_whenCallsGenerate_shouldReturnARandomUuid() {
+        // given
+        IdUtils.useVersion(IdUtils.Version.V4);
+
+        // when
+        final var actualId = IdUtils.generate();
+
+        // then
+        Assertions.assertEquals(IdUtils.Version.V4, IdUtils.version());
+        Assertions.assertEquals(4, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+    }
+
+    @Test
+    public void givenAnyVersion_whenCallsUuid_shouldReturnTheCompactLowercaseForm() {
+        // when
+        final var actualId = IdUtils.uuid();
+
+        // then
+        Assertions.assertEquals(32, actualId.length());
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.codelabs.admin.catalago.domain.castmember;
 
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.Identifier;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -19,7 +20,7 @@ public class CastMemberID extends Identifier {
     }
 
     public static CastMemberID unique() {
-        return CastMemberID.from(UUID.randomUUID());
+        return CastMemberID.from(IdUtils.generate());
     }
 
     public static CastMemberID from(final String id) {
@@ -1,5 +1,6 @@
 package com.codelabs.admin.catalago.domain.category;
 
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.Identifier;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -19,7 +20,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.generate());
     }
 
     public static CategoryID from(final String id) {
@@ -8,6 +8,10 @@ public enum ProblemType {
     NAME_MUST_NOT_BE_NULL("Name must be provided", "NAME_MUST_NOT_BE_NULL"),
     TYPE_MUST_NOT_BE_NULL("Type must be provided", "TYPE_MUST_NOT_BE_NULL"),
     NAME_SIZE_MINIMUM_MAXIMUM("'name' must be between 3 and 255 characters", "NAME_SIZE_MINIMUM_MAXIMUM"),
+    CONTENT_TYPE_MUST_NOT_BE_NULL("Content type must be provided", "CONTENT_TYPE_MUST_NOT_BE_NULL"),
+    CONTENT_LENGTH_MUST_BE_POSITIVE("'content_length' must be provided and greater than 0", "CONTENT_LENGTH_MUST_BE_POSITIVE"),
+    CHECKSUM_MUST_NOT_BE_NULL("Checksum must be provided", "CHECKSUM_MUST_NOT_BE_NULL"),
+    UPLOAD_ID_MUST_BE_VALID("'upload_id' must be the one returned with the upload url", "UPLOAD_ID_MUST_BE_VALID"),
     INVALID_PARAMETER("Invalid parameter", "INVALID_PARAMETER");
 
     private final String description;
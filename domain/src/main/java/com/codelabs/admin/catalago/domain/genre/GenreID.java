@@ -1,5 +1,6 @@
 package com.codelabs.admin.catalago.domain.genre;
 
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.Identifier;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -19,7 +20,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(IdUtils.generate());
     }
 
     public static GenreID from(final String id) {
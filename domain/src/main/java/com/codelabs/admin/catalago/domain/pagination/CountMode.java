@@ -0,0 +1,31 @@
+package com.codelabs.admin.catalago.domain.pagination;
+
+/**
+ * How the {@link Pagination#total()} of a listing is produced.
+ */
+public enum CountMode {
+
+    /**
+     * A count query runs with every page.
+     */
+    EXACT,
+
+    /**
+     * No count query, one extra row tells whether there is a next page and the total is {@link Pagination#UNKNOWN_TOTAL}.
+     */
+    NONE,
+
+    /**
+     * The last exact count of the same filters is reused while it is fresh, so the total may lag behind recent writes.
+     */
+    APPROXIMATE;
+
+    public static final String PATTERN = "(?i)exact|none|approximate";
+
+    public static CountMode of(final String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return CountMode.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,57 @@
+package com.codelabs.admin.catalago.domain.pagination;
+
+import com.codelabs.admin.catalago.common.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the value of the sort column and the id used as tie breaker.
+ * <p>
+ * The sort and direction travel inside the token, so a cursor can not be replayed against another ordering.
+ */
+public record Cursor(
+        String sort,
+        String direction,
+        String id,
+        String value
+) {
+
+    private static final String SEPARATOR = "\n";
+    private static final String NULL_VALUE = "\u0000";
+
+    public static Cursor with(final String sort, final String direction, final String id, final String value) {
+        return new Cursor(sort, direction.toLowerCase(), id, value);
+    }
+
+    /**
+     * Returns {@code null} for an empty token, which means the first page.
+     */
+    public static Cursor decode(final String token, final String sort, final String direction) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+
+        if (parts.length != 4) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+
+        if (!parts[0].equals(sort) || !parts[1].equalsIgnoreCase(direction)) {
+            throw new InvalidCursorException("Cursor was issued for sort %s %s".formatted(parts[0], parts[1]));
+        }
+
+        return new Cursor(parts[0], parts[1], parts[2], NULL_VALUE.equals(parts[3]) ? null : parts[3]);
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction, id, value == null ? NULL_VALUE : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
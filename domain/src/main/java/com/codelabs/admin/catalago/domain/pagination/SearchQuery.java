@@ -1,10 +1,36 @@
 package com.codelabs.admin.catalago.domain.pagination;
 
+/**
+ * A {@code null} cursor keeps the offset pagination, an empty one starts a keyset listing.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        CountMode countMode
 ) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT);
+    }
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction,
+                       final String cursor) {
+        this(page, perPage, terms, sort, direction, cursor, CountMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    /**
+     * The same listing with the equivalent inputs written the same way, so it can be used as a cache key.
+     */
+    public SearchQuery normalized() {
+        final var normalizedTerms = terms == null || terms.isBlank() ? null : terms;
+        return new SearchQuery(page, perPage, normalizedTerms, sort, direction, cursor, countMode);
+    }
 }
@@ -0,0 +1,34 @@
+package com.codelabs.admin.catalago.domain.video;
+
+import com.codelabs.admin.catalago.common.exceptions.DomainException;
+
+public record ByteRange(
+        Long first,
+        Long last
+) {
+
+    public ByteRange {
+        if (first == null && (last == null || last <= 0)) {
+            throw new DomainException("A suffix range must have a positive length");
+        }
+        if (first != null && (first < 0 || (last != null && last < first))) {
+            throw new DomainException("Invalid byte range %s-%s".formatted(first, last));
+        }
+    }
+
+    public static ByteRange of(final long first, final Long last) {
+        return new ByteRange(first, last);
+    }
+
+    public static ByteRange suffix(final long length) {
+        return new ByteRange(null, length);
+    }
+
+    public boolean isSuffix() {
+        return first == null;
+    }
+
+    public boolean isSatisfiable(final long totalLength) {
+        return isSuffix() ? totalLength > 0 : first < totalLength;
+    }
+}
@@ -0,0 +1,16 @@
+package com.codelabs.admin.catalago.domain.video;
+
+public record ContentRange(
+        long first,
+        long last,
+        long totalLength
+) {
+
+    public static ContentRange with(final long first, final long last, final long totalLength) {
+        return new ContentRange(first, last, totalLength);
+    }
+
+    public long length() {
+        return last - first + 1;
+    }
+}
@@ -0,0 +1,37 @@
+package com.codelabs.admin.catalago.domain.video;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record MediaCleanupReport(
+        List<String> deleted,
+        List<String> failed
+) {
+
+    public MediaCleanupReport {
+        deleted = List.copyOf(deleted);
+        failed = List.copyOf(failed);
+    }
+
+    public static MediaCleanupReport with(final List<String> deleted, final List<String> failed) {
+        return new MediaCleanupReport(deleted, failed);
+    }
+
+    public static MediaCleanupReport empty() {
+        return new MediaCleanupReport(List.of(), List.of());
+    }
+
+    public MediaCleanupReport merge(final MediaCleanupReport other) {
+        final var allDeleted = new ArrayList<>(this.deleted);
+        allDeleted.addAll(other.deleted());
+
+        final var allFailed = new ArrayList<>(this.failed);
+        allFailed.addAll(other.failed());
+
+        return new MediaCleanupReport(allDeleted, allFailed);
+    }
+
+    public boolean isComplete() {
+        return failed.isEmpty();
+    }
+}
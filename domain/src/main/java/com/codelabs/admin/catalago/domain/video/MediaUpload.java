@@ -0,0 +1,18 @@
+package com.codelabs.admin.catalago.domain.video;
+
+/**
+ * Describes a media the client is about to send straight to the storage.
+ * The checksum is signed into the upload url, so the storage rejects any other content.
+ */
+public record MediaUpload(
+        String name,
+        String contentType,
+        long contentLength,
+        String checksum
+) {
+
+    public static MediaUpload with(final String name, final String contentType, final long contentLength,
+                                   final String checksum) {
+        return new MediaUpload(name, contentType, contentLength, checksum);
+    }
+}
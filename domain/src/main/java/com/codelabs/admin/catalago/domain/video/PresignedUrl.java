@@ -0,0 +1,27 @@
+package com.codelabs.admin.catalago.domain.video;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignedUrl(
+        String url,
+        String method,
+        Instant expiresAt,
+        Map<String, String> headers,
+        String uploadId
+) {
+
+    public PresignedUrl {
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+    }
+
+    public static PresignedUrl with(final String url, final String method, final Instant expiresAt,
+                                    final Map<String, String> headers) {
+        return new PresignedUrl(url, method, expiresAt, headers, null);
+    }
+
+    // an upload is written to a key of its own, the client hands this id back to complete it
+    public PresignedUrl withUploadId(final String anUploadId) {
+        return new PresignedUrl(url, method, expiresAt, headers, anUploadId);
+    }
+}
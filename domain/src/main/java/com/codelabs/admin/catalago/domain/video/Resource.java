@@ -5,6 +5,7 @@ import lombok.Getter;
 
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 
 @Getter
 public class Resource extends ValueObject {
@@ -14,16 +15,41 @@ public class Resource extends ValueObject {
     private final String checksum;
     private final String contentType;
     private final String name;
+    private final ContentRange contentRange;
+    private final String digest;
 
-    private Resource(final InputStream inputStream, final long contentLength, final String checksum, final String contentType, final String name) {
+    private Resource(final InputStream inputStream, final long contentLength, final String checksum, final String contentType,
+                     final String name, final ContentRange contentRange, final String digest) {
         this.inputStream = Objects.requireNonNull(inputStream);
         this.contentLength = contentLength;
         this.checksum = Objects.requireNonNull(checksum);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
+        this.contentRange = contentRange;
+        this.digest = digest;
     }
 
     public static Resource with(final InputStream inputStream, final long contentLength, final String checksum, final String contentType, final String name) {
-        return new Resource(inputStream, contentLength, checksum, contentType, name);
+        return new Resource(inputStream, contentLength, checksum, contentType, name, null, null);
     }
-}
\ No newline at end of file
+
+    public static Resource with(final InputStream inputStream, final long contentLength, final String checksum, final String contentType,
+                                final String name, final ContentRange contentRange) {
+        return new Resource(inputStream, contentLength, checksum, contentType, name, contentRange, null);
+    }
+
+    /**
+     * Returns a copy carrying the hex encoded SHA-256 of the content, strong enough to identify it on its own.
+     */
+    public Resource withDigest(final String digest) {
+        return new Resource(inputStream, contentLength, checksum, contentType, name, contentRange, digest);
+    }
+
+    public Optional<ContentRange> getContentRange() {
+        return Optional.ofNullable(contentRange);
+    }
+
+    public Optional<String> getDigest() {
+        return Optional.ofNullable(digest);
+    }
+}
@@ -0,0 +1,14 @@
+package com.codelabs.admin.catalago.domain.video;
+
+public record StoredMedia(
+        String location,
+        String checksum,
+        String name,
+        long contentLength
+) {
+
+    public static StoredMedia with(final String location, final String checksum, final String name,
+                                   final long contentLength) {
+        return new StoredMedia(location, checksum, name, contentLength);
+    }
+}
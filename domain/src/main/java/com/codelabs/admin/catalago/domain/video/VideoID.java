@@ -1,5 +1,6 @@
 package com.codelabs.admin.catalago.domain.video;
 
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.Identifier;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -26,7 +27,7 @@ public class VideoID extends Identifier {
     }
 
     public static VideoID unique() {
-        return VideoID.from(UUID.randomUUID());
+        return VideoID.from(IdUtils.generate());
     }
 
     @Override
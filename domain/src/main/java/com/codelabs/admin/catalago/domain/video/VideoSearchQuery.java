@@ -3,6 +3,7 @@ package com.codelabs.admin.catalago.domain.video;
 import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 
 import java.util.Set;
 
@@ -14,6 +15,36 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
+        Set<GenreID> genres,
+        String cursor,
+        CountMode countMode
 ) {
+
+    public VideoSearchQuery(final int page, final int perPage, final String terms, final String sort,
+                            final String direction, final Set<CastMemberID> castMembers,
+                            final Set<CategoryID> categories, final Set<GenreID> genres) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null, CountMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    /**
+     * The same listing with the equivalent inputs written the same way, so it can be used as a cache key.
+     */
+    public VideoSearchQuery normalized() {
+        return new VideoSearchQuery(
+                page,
+                perPage,
+                terms == null || terms.isBlank() ? null : terms,
+                sort,
+                direction,
+                castMembers == null ? Set.of() : castMembers,
+                categories == null ? Set.of() : categories,
+                genres == null ? Set.of() : genres,
+                cursor,
+                countMode
+        );
+    }
 }
@@ -0,0 +1,53 @@
+package com.codelabs.admin.catalago.domain.pagination;
+
+import com.codelabs.admin.catalago.common.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorTest {
+
+    @Test
+    public void givenAnEncodedCursor_whenCallsDecode_shouldReturnTheSamePosition() {
+        // given
+        final var expectedCursor = Cursor.with("name", "ASC", "123", "Filmes");
+
+        // when
+        final var actualCursor = Cursor.decode(expectedCursor.encode(), "name", "asc");
+
+        // then
+        Assertions.assertEquals(expectedCursor, actualCursor);
+        Assertions.assertEquals("asc", actualCursor.direction());
+    }
+
+    @Test
+    public void givenACursorWithoutSortValue_whenCallsDecode_shouldKeepTheNullValue() {
+        // given
+        final var expectedCursor = Cursor.with("description", "desc", "123", null);
+
+        // when
+        final var actualCursor = Cursor.decode(expectedCursor.encode(), "description", "desc");
+
+        // then
+        Assertions.assertNull(actualCursor.value());
+    }
+
+    @Test
+    public void givenAnEmptyToken_whenCallsDecode_shouldReturnTheFirstPage() {
+        Assertions.assertNull(Cursor.decode("", "name", "asc"));
+        Assertions.assertNull(Cursor.decode(null, "name", "asc"));
+    }
+
+    @Test
+    public void givenACursorOfAnotherSort_whenCallsDecode_shouldThrowInvalidCursor() {
+        // given
+        final var token = Cursor.with("name", "asc", "123", "Filmes").encode();
+
+        // when
+        final var actualException = Assertions.assertThrows(InvalidCursorException.class,
+                () -> Cursor.decode(token, "createdAt", "asc"));
+
+        // then
+        Assertions.assertEquals("Cursor was issued for sort name asc", actualException.getMessage());
+        Assertions.assertThrows(InvalidCursorException.class, () -> Cursor.decode("%%%", "name", "asc"));
+    }
+}
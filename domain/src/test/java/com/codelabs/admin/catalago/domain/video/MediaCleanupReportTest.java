@@ -0,0 +1,34 @@
+package com.codelabs.admin.catalago.domain.video;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MediaCleanupReportTest {
+
+    @Test
+    public void givenTwoBatchReports_whenCallsMerge_ShouldKeepEveryKey() {
+        // given
+        final var firstBatch = MediaCleanupReport.with(List.of("a", "b"), List.of());
+        final var secondBatch = MediaCleanupReport.with(List.of("c"), List.of("d"));
+
+        // when
+        final var actualReport = firstBatch.merge(secondBatch);
+
+        // then
+        Assertions.assertEquals(List.of("a", "b", "c"), actualReport.deleted());
+        Assertions.assertEquals(List.of("d"), actualReport.failed());
+        Assertions.assertFalse(actualReport.isComplete());
+    }
+
+    @Test
+    public void givenAnEmptyReport_whenCallsIsComplete_ShouldReturnTrue() {
+        // when
+        final var actualReport = MediaCleanupReport.empty();
+
+        // then
+        Assertions.assertTrue(actualReport.deleted().isEmpty());
+        Assertions.assertTrue(actualReport.isComplete());
+    }
+}
@@ -0,0 +1,27 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class AfterCompletion {
+
+    private AfterCompletion() {
+    }
+
+    /**
+     * Runs the eviction now and once more when the current transaction completes, otherwise a concurrent read
+     * running before the commit could cache the old row again right after it was evicted.
+     */
+    static void evict(final Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
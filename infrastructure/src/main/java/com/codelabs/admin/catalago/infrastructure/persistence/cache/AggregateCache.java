@@ -0,0 +1,28 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps the aggregates read by the persistence adapters' {@code getById}. Aggregates are mutable, so the
+ * implementations only hand out copies made with {@code copy} and never the instance they hold.
+ */
+public interface AggregateCache extends InvalidationListener {
+
+    <T> T get(String region, String id, Supplier<T> load, UnaryOperator<T> copy);
+
+    void invalidate(String region, String id);
+
+    void invalidateAll(String region);
+
+    void invalidateAll();
+
+    @Override
+    default void onInvalidation(final CacheInvalidation invalidation) {
+        if (invalidation.isWholeRegion()) {
+            invalidateAll(invalidation.region());
+        } else {
+            invalidate(invalidation.region(), invalidation.id());
+        }
+    }
+}
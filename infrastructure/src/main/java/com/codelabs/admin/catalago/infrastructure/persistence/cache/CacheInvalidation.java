@@ -0,0 +1,19 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+/**
+ * A change to an aggregate that every node must evict. Without an {@code id} the whole region is evicted.
+ */
+public record CacheInvalidation(String region, String id) {
+
+    public static CacheInvalidation of(final String region, final String id) {
+        return new CacheInvalidation(region, id);
+    }
+
+    public static CacheInvalidation all(final String region) {
+        return new CacheInvalidation(region, null);
+    }
+
+    public boolean isWholeRegion() {
+        return id == null;
+    }
+}
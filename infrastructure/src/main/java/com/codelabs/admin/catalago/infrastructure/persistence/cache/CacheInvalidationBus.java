@@ -0,0 +1,34 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Entry point of the persistence adapters to evict what a write changed, on this node and on the others.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final InvalidationTransport transport;
+
+    public CacheInvalidationBus(final InvalidationTransport transport, final List<InvalidationListener> listeners) {
+        this.transport = transport;
+        this.transport.subscribe(invalidation -> {
+            log.debug("Evicting {} {}", kv("region", invalidation.region()), kv("id", invalidation.id()));
+            listeners.forEach(listener -> listener.onInvalidation(invalidation));
+        });
+    }
+
+    public void invalidate(final String region, final String id) {
+        this.transport.publish(CacheInvalidation.of(region, id));
+    }
+
+    public void invalidateAll(final String region) {
+        this.transport.publish(CacheInvalidation.all(region));
+    }
+}
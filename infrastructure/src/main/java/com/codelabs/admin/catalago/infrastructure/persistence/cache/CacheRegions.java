@@ -0,0 +1,12 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+public final class CacheRegions {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast_members";
+    public static final String VIDEOS = "videos";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,162 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.common.utils.IdUtils;
+import com.codelabs.admin.catalago.common.utils.InstantUtils;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.entity.CacheInvalidationEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.repository.CacheInvalidationRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Writes the invalidations to the {@code cache_invalidations} table in the caller's transaction, so only
+ * committed writes are announced, and polls the rows written by the other nodes. The ids skipped by a poll
+ * because their transaction was still open are asked again on the next polls, until the gap timeout.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "persistence.catalogo-videos", name = "invalidation-transport", havingValue = "database")
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class DatabaseInvalidationTransport implements InvalidationTransport {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_GAPS = 10_000;
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(1);
+
+    private final CacheInvalidationRepository repository;
+    private final PersistenceProperties properties;
+    private final String nodeId = IdUtils.uuid();
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller;
+
+    // ids skipped by the position that may still be committed, with the local time they were first missed
+    private final Map<Long, Instant> gaps = new LinkedHashMap<>();
+
+    private long lastId;
+
+    public DatabaseInvalidationTransport(final CacheInvalidationRepository repository,
+                                         final PersistenceProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("cache-invalidation-poller-%d").setDaemon(true).build()
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        this.lastId = this.repository.findLastId();
+
+        final var interval = properties.getInvalidationPollInterval().toMillis();
+        this.poller.scheduleWithFixedDelay(() -> run("poll", this::poll), interval, interval, TimeUnit.MILLISECONDS);
+        this.poller.scheduleWithFixedDelay(() -> run("clean up", this::cleanUp),
+                CLEANUP_INTERVAL.toMillis(), CLEANUP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("Polling cache invalidations {} {}", kv("node", nodeId), kv("last_id", lastId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.poller.shutdownNow();
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        this.repository.save(CacheInvalidationEntity.from(nodeId, invalidation));
+        this.subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> subscriber) {
+        this.subscribers.add(subscriber);
+    }
+
+    void poll() {
+        retryGaps();
+
+        for (final var row : this.repository.findAfter(this.lastId, Limit.of(BATCH_SIZE))) {
+            // an id is taken on insert but only visible on commit, so a smaller one may still show up after
+            // a bigger one. The skipped ids are remembered and asked again until the gap timeout of this node
+            trackGaps(this.lastId + 1, row.getId());
+
+            this.lastId = row.getId();
+            deliver(row);
+        }
+    }
+
+    private void retryGaps() {
+        if (this.gaps.isEmpty()) {
+            return;
+        }
+
+        final var recovered = Lists.partition(List.copyOf(this.gaps.keySet()), BATCH_SIZE).stream()
+                .flatMap(ids -> this.repository.findIn(ids).stream())
+                .toList();
+        recovered.forEach(row -> {
+            this.gaps.remove(row.getId());
+            deliver(row);
+        });
+
+        // only the clock of this node is compared, a rolled back id is never committed and expires here
+        final var deadline = InstantUtils.now().minus(properties.getInvalidationGapTimeout());
+        final var expired = this.gaps.entrySet().removeIf(it -> !it.getValue().isAfter(deadline));
+
+        if (!recovered.isEmpty() || expired) {
+            log.debug("Cache invalidation gaps checked {} {}", kv("recovered", recovered.size()), kv("pending", gaps.size()));
+        }
+    }
+
+    private void trackGaps(final long from, final long to) {
+        final var now = InstantUtils.now();
+        var missing = from;
+        for (; missing < to && this.gaps.size() < MAX_GAPS; missing++) {
+            this.gaps.put(missing, now);
+        }
+
+        if (missing < to) {
+            log.warn("Too many cache invalidation gaps, skipping ids {} {} {}",
+                    kv("node", nodeId), kv("from", missing), kv("to", to - 1));
+        }
+    }
+
+    private void deliver(final CacheInvalidationEntity row) {
+        if (!nodeId.equals(row.getNodeId())) {
+            final var invalidation = row.toInvalidation();
+            this.subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+        }
+    }
+
+    private void cleanUp() {
+        final int deleted = this.repository.deleteCreatedBefore(
+                InstantUtils.now().minus(properties.getInvalidationRetention()));
+        log.debug("Old cache invalidations deleted {}", kv("deleted", deleted));
+    }
+
+    private void run(final String task, final Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (final Throwable t) {
+            log.error("error on cache invalidation %s [node:%s]".formatted(task, nodeId), t);
+        }
+    }
+}
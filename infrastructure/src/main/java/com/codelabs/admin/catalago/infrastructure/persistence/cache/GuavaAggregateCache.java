@@ -0,0 +1,88 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Component
+@ConditionalOnProperty(prefix = "persistence.catalogo-videos", name = "aggregate-cache", havingValue = "guava", matchIfMissing = true)
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class GuavaAggregateCache implements AggregateCache {
+
+    private final PersistenceProperties properties;
+    private final ConcurrentMap<String, Region> regions = new ConcurrentHashMap<>();
+
+    public GuavaAggregateCache(final PersistenceProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String region, final String id, final Supplier<T> load, final UnaryOperator<T> copy) {
+        final var cache = region(region);
+
+        final var cached = (T) cache.entries().getIfPresent(id);
+        if (cached != null) {
+            return copy.apply(cached);
+        }
+
+        final var stamp = cache.stamp().get();
+        final var loaded = load.get();
+
+        // an eviction while loading means the row read may already be older than the database
+        if (cache.stamp().get() == stamp) {
+            cache.entries().put(id, copy.apply(loaded));
+        }
+        return loaded;
+    }
+
+    @Override
+    public void invalidate(final String region, final String id) {
+        final var cache = region(region);
+        AfterCompletion.evict(() -> {
+            cache.stamp().incrementAndGet();
+            cache.entries().invalidate(id);
+        });
+    }
+
+    @Override
+    public void invalidateAll(final String region) {
+        final var cache = region(region);
+        AfterCompletion.evict(() -> {
+            cache.stamp().incrementAndGet();
+            cache.entries().invalidateAll();
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.regions.keySet().forEach(this::invalidateAll);
+    }
+
+    public CacheStats stats(final String region) {
+        return region(region).entries().stats();
+    }
+
+    private Region region(final String region) {
+        return this.regions.computeIfAbsent(region, name -> new Region(
+                CacheBuilder.newBuilder()
+                        .expireAfterWrite(properties.getAggregateCacheTtl())
+                        .maximumSize(properties.getAggregateCacheSize())
+                        .recordStats()
+                        .build(),
+                new AtomicLong()));
+    }
+
+    private record Region(Cache<String, Object> entries, AtomicLong stamp) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Remembers the ids known to exist, per aggregate, so the reference checks of the video and genre writes
+ * only go to the database for the ids that were not seen recently. Only hits are kept, a missing id is
+ * always checked again.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class IdCache implements InvalidationListener {
+
+    private final PersistenceProperties properties;
+    private final ConcurrentMap<String, Cache<String, Boolean>> regions = new ConcurrentHashMap<>();
+
+    public IdCache(final PersistenceProperties properties) {
+        this.properties = properties;
+    }
+
+    public List<String> existing(final String region, final List<String> ids,
+                                 final Function<List<String>, List<String>> load) {
+        final var cache = region(region);
+        final var found = new ArrayList<String>();
+        final var missing = new ArrayList<String>();
+
+        for (final var id : new LinkedHashSet<>(ids)) {
+            if (cache.getIfPresent(id) != null) {
+                found.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final var loaded = load.apply(missing);
+            loaded.forEach(id -> cache.put(id, Boolean.TRUE));
+            found.addAll(loaded);
+        }
+
+        final var stats = cache.stats();
+        log.info("id cache lookup {} {} {} {} {}", kv("region", region), kv("hits", ids.size() - missing.size()),
+                kv("misses", missing.size()), kv("total_hits", stats.hitCount()), kv("total_misses", stats.missCount()));
+        return found;
+    }
+
+    public void invalidate(final String region, final String id) {
+        AfterCompletion.evict(() -> region(region).invalidate(id));
+    }
+
+    @Override
+    public void onInvalidation(final CacheInvalidation invalidation) {
+        // a whole region is only evicted for cascades on the associations, which don't change the ids that exist
+        if (!invalidation.isWholeRegion() && this.regions.containsKey(invalidation.region())) {
+            invalidate(invalidation.region(), invalidation.id());
+        }
+    }
+
+    public void invalidateAll() {
+        this.regions.values().forEach(Cache::invalidateAll);
+    }
+
+    public CacheStats stats(final String region) {
+        return region(region).stats();
+    }
+
+    private Cache<String, Boolean> region(final String region) {
+        return this.regions.computeIfAbsent(region, name -> CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getIdCacheTtl())
+                .maximumSize(properties.getIdCacheSize())
+                .recordStats()
+                .build());
+    }
+}
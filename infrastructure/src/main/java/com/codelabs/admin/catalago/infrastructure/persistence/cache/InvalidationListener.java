@@ -0,0 +1,6 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+public interface InvalidationListener {
+
+    void onInvalidation(CacheInvalidation invalidation);
+}
@@ -0,0 +1,14 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the invalidations between the nodes. Every subscriber of every node receives each published
+ * invalidation, the ones of the publishing node synchronously, inside the caller's transaction.
+ */
+public interface InvalidationTransport {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
@@ -0,0 +1,28 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Only delivers to the subscribers of this JVM, enough for a single node and for the tests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "persistence.catalogo-videos", name = "invalidation-transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        this.subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> subscriber) {
+        this.subscribers.add(subscriber);
+    }
+}
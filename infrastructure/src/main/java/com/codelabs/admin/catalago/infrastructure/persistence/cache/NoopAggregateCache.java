@@ -0,0 +1,29 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Component
+@ConditionalOnProperty(prefix = "persistence.catalogo-videos", name = "aggregate-cache", havingValue = "none")
+public class NoopAggregateCache implements AggregateCache {
+
+    @Override
+    public <T> T get(final String region, final String id, final Supplier<T> load, final UnaryOperator<T> copy) {
+        return load.get();
+    }
+
+    @Override
+    public void invalidate(final String region, final String id) {
+    }
+
+    @Override
+    public void invalidateAll(final String region) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+}
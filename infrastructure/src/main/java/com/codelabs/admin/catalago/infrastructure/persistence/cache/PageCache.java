@@ -0,0 +1,135 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.domain.pagination.Pagination;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Keeps the listing pages by their normalized query. Any write to an aggregate moves its region to a new
+ * generation, which turns every page of that region stale at once.
+ * <p>
+ * With a {@code page-cache-stale} window a stale page is still answered, until {@code page-cache-ttl} plus that
+ * window after it was loaded, while a single background load replaces it, so the hot listings don't wait on the
+ * database. Without the window, or past it, the caller loads the page.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class PageCache implements InvalidationListener {
+
+    private final PersistenceProperties properties;
+    private final Cache<Key, Entry> pages;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher;
+
+    public PageCache(final PersistenceProperties properties) {
+        this.properties = properties;
+        this.pages = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getPageCacheTtl().plus(properties.getPageCacheStale()))
+                .maximumSize(properties.getPageCacheSize())
+                .build();
+        this.refresher = Executors.newFixedThreadPool(
+                properties.getPageCacheRefreshConcurrency(),
+                new ThreadFactoryBuilder().setNameFormat("page-cache-refresh-%d").setDaemon(true).build()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Pagination<T> get(final String region, final Object query, final Supplier<Pagination<T>> load,
+                                 final UnaryOperator<T> copy) {
+        if (!properties.isPageCacheEnabled()) {
+            return load.get();
+        }
+
+        final var key = new Key(region, query);
+        final var generation = generation(region).get();
+        final var entry = this.pages.getIfPresent(key);
+
+        if (entry != null) {
+            final var age = System.nanoTime() - entry.loadedAt();
+
+            if (entry.generation() == generation && age <= properties.getPageCacheTtl().toNanos()) {
+                return ((Pagination<T>) entry.page()).map(copy);
+            }
+
+            if (!properties.getPageCacheStale().isZero()) {
+                refresh(key, load, copy);
+                return ((Pagination<T>) entry.page()).map(copy);
+            }
+        }
+
+        return store(key, generation, load.get(), copy);
+    }
+
+    @Override
+    public void onInvalidation(final CacheInvalidation invalidation) {
+        // the pages are not tracked per id, any change to the aggregate turns them all stale
+        AfterCompletion.evict(() -> generation(invalidation.region()).incrementAndGet());
+    }
+
+    public void invalidateAll() {
+        this.pages.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.refresher.shutdownNow();
+    }
+
+    private <T> void refresh(final Key key, final Supplier<Pagination<T>> load, final UnaryOperator<T> copy) {
+        if (!this.refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            this.refresher.execute(() -> {
+                try {
+                    store(key, generation(key.region()).get(), load.get(), copy);
+                } catch (final Throwable t) {
+                    log.error("error on page cache refresh [region:%s]".formatted(key.region()), t);
+                } finally {
+                    this.refreshing.remove(key);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.refreshing.remove(key);
+            log.warn("Page cache refresh rejected {}", kv("region", key.region()));
+        }
+    }
+
+    private <T> Pagination<T> store(final Key key, final long generation, final Pagination<T> page,
+                                    final UnaryOperator<T> copy) {
+        // the generation read before the load, a write during it leaves the page stale for the next request
+        this.pages.put(key, new Entry(page.map(copy), generation, System.nanoTime()));
+        return page;
+    }
+
+    private AtomicLong generation(final String region) {
+        return this.generations.computeIfAbsent(region, name -> new AtomicLong());
+    }
+
+    private record Key(String region, Object query) {
+    }
+
+    private record Entry(Pagination<?> page, long generation, long loadedAt) {
+    }
+}
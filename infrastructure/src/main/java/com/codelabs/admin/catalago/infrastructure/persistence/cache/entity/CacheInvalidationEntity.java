@@ -0,0 +1,48 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache.entity;
+
+import com.codelabs.admin.catalago.common.utils.InstantUtils;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheInvalidation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Entity(name = "CacheInvalidation")
+@Table(name = "cache_invalidations")
+public class CacheInvalidationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Column(name = "region", nullable = false)
+    private String region;
+
+    @Column(name = "aggregate_id")
+    private String aggregateId;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public static CacheInvalidationEntity from(final String nodeId, final CacheInvalidation invalidation) {
+        return new CacheInvalidationEntity(null, nodeId, invalidation.region(), invalidation.id(), InstantUtils.now());
+    }
+
+    public CacheInvalidation toInvalidation() {
+        return new CacheInvalidation(region, aggregateId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache.repository;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.entity.CacheInvalidationEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationEntity, Long> {
+
+    @Query(value = "select coalesce(max(i.id), 0) from CacheInvalidation i")
+    long findLastId();
+
+    @Query(value = "select i from CacheInvalidation i where i.id > :id order by i.id")
+    List<CacheInvalidationEntity> findAfter(@Param("id") long id, Limit limit);
+
+    @Query(value = "select i from CacheInvalidation i where i.id in :ids order by i.id")
+    List<CacheInvalidationEntity> findIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from CacheInvalidation i where i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
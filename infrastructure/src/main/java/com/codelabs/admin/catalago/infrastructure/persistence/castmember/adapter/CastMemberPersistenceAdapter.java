@@ -3,19 +3,35 @@ package com.codelabs.admin.catalago.infrastructure.persistence.castmember.adapte
 import com.codelabs.admin.catalago.application.ports.out.CastMemberPort;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.PersistenceAdapter;
+import com.codelabs.admin.catalago.common.utils.InstantUtils;
 import com.codelabs.admin.catalago.common.utils.SpecificationUtils;
 import com.codelabs.admin.catalago.domain.castmember.CastMember;
 import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.AggregateCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheRegions;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.IdCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.PageCache;
 import com.codelabs.admin.catalago.infrastructure.persistence.castmember.entity.CastMemberEntity;
 import com.codelabs.admin.catalago.infrastructure.persistence.castmember.repository.CastMemberRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.ManagedEntities;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.CountCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Keyset;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Offsets;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -29,22 +45,62 @@ import static net.logstash.logback.marker.Markers.append;
 public class CastMemberPersistenceAdapter implements CastMemberPort {
 
     private final CastMemberRepository castMemberRepository;
+    private final CountCache countCache;
+    private final AggregateCache aggregateCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PageCache pageCache;
+    private final IdCache idCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
+    public CastMember create(final CastMember castMember) {
+        log.info(append("cast member", castMember), "Starting cast member creation in the database...");
+
+        final CastMemberEntity entity = CastMemberEntity.from(castMember);
+        entity.markNew();
+
+        final CastMemberEntity savedEntity = this.castMemberRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.CAST_MEMBERS, savedEntity.getId());
+
+        log.info(append("entity", savedEntity), "Cast member created successfully!");
+        return savedEntity.toAggregate();
+    }
+
+    @Override
+    @Transactional
     public CastMember save(final CastMember castMember) {
         log.info(append("cast member", castMember), "Starting cast member persistence in the database...");
 
         final CastMemberEntity entity = CastMemberEntity.from(castMember);
         log.info(append("entity", entity), "Object mapped successfully!");
 
-        final CastMemberEntity savedEntity = this.castMemberRepository.save(entity);
+        // a single UPDATE by id, the row is only inserted when it doesn't exist yet
+        if (this.castMemberRepository.update(entity) == 0) {
+            entity.markNew();
+            this.castMemberRepository.save(entity);
+        } else {
+            ManagedEntities.evict(this.entityManager, CastMemberEntity.class, entity.getId());
+        }
+        this.invalidationBus.invalidate(CacheRegions.CAST_MEMBERS, entity.getId());
 
-        log.info(append("entity", savedEntity), "Cast member persisted successfully!");
-        return savedEntity.toAggregate();
+        log.info(append("entity", entity), "Cast member persisted successfully!");
+        return entity.toAggregate();
     }
 
     @Override
     public CastMember getById(final CastMemberID id) {
+        return this.aggregateCache.get(CacheRegions.CAST_MEMBERS, id.getValue(), () -> loadById(id), CastMember::with);
+    }
+
+    @Override
+    public Optional<Instant> getUpdatedAt(final CastMemberID id) {
+        log.info("Searching cast member last modification in the database... {}", id.getValue());
+        return this.castMemberRepository.findUpdatedAtById(id.getValue());
+    }
+
+    private CastMember loadById(final CastMemberID id) {
         log.info("Searching cast member in the database... {}", id.getValue());
 
         final Optional<CastMemberEntity> castMemberEntity = this.castMemberRepository.findById(id.getValue());
@@ -61,18 +117,30 @@ public class CastMemberPersistenceAdapter implements CastMemberPort {
     }
 
     @Override
+    @Transactional
     public void deleteById(final CastMemberID id) {
         log.info("Starting cast member deletion in the database... {}", id.getValue());
 
-        final String idValue = id.getValue();
-        if (this.castMemberRepository.existsById(idValue)) {
-            this.castMemberRepository.deleteById(idValue);
-            log.info("Cast member deleted successfully! {}", idValue);
-        }
+        // the videos that lose it change too, their ETag and Last-Modified must move with them
+        final int touchedVideos = this.castMemberRepository.touchVideosByCastMemberId(id.getValue(), InstantUtils.now());
+
+        // the association rows go with it through the ON DELETE CASCADE foreign keys
+        final int deleted = this.castMemberRepository.bulkDeleteById(id.getValue());
+        this.invalidationBus.invalidate(CacheRegions.CAST_MEMBERS, id.getValue());
+        // the cascade also removed it from the videos that referenced it
+        this.invalidationBus.invalidateAll(CacheRegions.VIDEOS);
+
+        log.info("Cast member deletion done! {} {}", kv("id", id.getValue()), kv("deleted", deleted),
+                kv("touchedVideos", touchedVideos));
     }
 
     @Override
     public Pagination<CastMember> listCastMembers(final SearchQuery query) {
+        final var normalized = query.normalized();
+        return this.pageCache.get(CacheRegions.CAST_MEMBERS, normalized, () -> loadCastMembers(normalized), CastMember::with);
+    }
+
+    private Pagination<CastMember> loadCastMembers(final SearchQuery query) {
         log.info(append("params", query), "Searching cast members in database by parameters");
 
         final var page = PageRequest.of(
@@ -86,6 +154,14 @@ public class CastMemberPersistenceAdapter implements CastMemberPort {
                 .map(this::assembleSpecification)
                 .orElse(null);
 
+        if (query.isKeyset()) {
+            return listCastMembersByKeyset(query, where);
+        }
+
+        if (query.countMode() != CountMode.EXACT) {
+            return listCastMembersWithoutCount(query, page, where);
+        }
+
         final var pageResult =
                 this.castMemberRepository.findAll(where, page);
         log.info("were found {} cast members", kv("members_size", pageResult.getTotalElements()));
@@ -106,12 +182,41 @@ public class CastMemberPersistenceAdapter implements CastMemberPort {
                 .map(CastMemberID::getValue)
                 .toList();
 
-        return this.castMemberRepository.existsByIds(ids).stream()
+        return this.idCache.existing(CacheRegions.CAST_MEMBERS, ids, this.castMemberRepository::existsByIds).stream()
                 .peek(id -> log.info("id found in database: {}", id))
                 .map(CastMemberID::from)
                 .toList();
     }
 
+    private Pagination<CastMember> listCastMembersWithoutCount(final SearchQuery query, final Pageable page,
+            final Specification<CastMemberEntity> where) {
+        final var window = this.castMemberRepository.findBy(Specification.where(where),
+                fluent -> fluent.sortBy(page.getSort())
+                        .limit(page.getPageSize())
+                        .scroll(Offsets.positionOf(page)));
+        final var items = window.map(CastMemberEntity::toAggregate).getContent();
+        log.info("were found {} cast members", kv("members_size", items.size()));
+
+        if (query.countMode() == CountMode.APPROXIMATE) {
+            final var total = this.countCache.get(Offsets.countKey("cast_members", query.terms()),
+                    () -> this.castMemberRepository.count(Specification.where(where)));
+            return Pagination.approximate(query.page(), query.perPage(), total, items, window.hasNext());
+        }
+        return Pagination.uncounted(query.page(), query.perPage(), items, window.hasNext());
+    }
+
+    private Pagination<CastMember> listCastMembersByKeyset(final SearchQuery query, final Specification<CastMemberEntity> where) {
+        final Specification<CastMemberEntity> after = Keyset.after(query.cursor(), query.sort(), query.direction());
+
+        final var rows = this.castMemberRepository.findBy(Specification.where(where).and(after),
+                fluent -> fluent.sortBy(Keyset.sort(query.sort(), query.direction()))
+                        .limit(Keyset.limit(query.perPage()))
+                        .all());
+        log.info("were found {} cast members", kv("members_size", rows.size()));
+
+        return Keyset.page(rows, query.perPage(), query.sort(), query.direction(), CastMemberEntity::toAggregate);
+    }
+
     private Specification<CastMemberEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
@@ -3,8 +3,11 @@ package com.codelabs.admin.catalago.infrastructure.persistence.castmember.entity
 import com.codelabs.admin.catalago.domain.castmember.CastMember;
 import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.enums.CastMemberType;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
 
 import java.time.Instant;
 
@@ -14,9 +17,10 @@ import java.time.Instant;
 @Setter
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberEntity {
+public class CastMemberEntity extends AssignedIdEntity {
 
     @Id
+    @JavaType(AggregateIdJavaType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -5,15 +5,46 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberEntity, String>, JpaSpecificationExecutor<CastMemberEntity> {
 
     Page<CastMemberEntity> findAll(Specification<CastMemberEntity> specification, Pageable page);
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from CastMember c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // the adapter evicts the updated entity, the rest of the persistence context stays managed
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update CastMember c
+            set c.name = :#{#member.name},
+                c.type = :#{#member.type},
+                c.updatedAt = :#{#member.updatedAt}
+            where c.id = :#{#member.id}
+            """)
+    int update(@Param("member") CastMemberEntity member);
+
+    // the ON DELETE CASCADE leaves the referencing rows untouched, so their validators are bumped by hand
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update Video v
+            set v.updatedAt = :now
+            where v.id in (select vcm.id.videoId from VideoCastMember vcm where vcm.id.castMemberId = :id)
+            """)
+    int touchVideosByCastMemberId(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CastMember c where c.id = :id")
+    int bulkDeleteById(@Param("id") String id);
 }
@@ -3,18 +3,34 @@ package com.codelabs.admin.catalago.infrastructure.persistence.category.adapter;
 import com.codelabs.admin.catalago.application.ports.out.CategoryPort;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.PersistenceAdapter;
+import com.codelabs.admin.catalago.common.utils.InstantUtils;
 import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.AggregateCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheRegions;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.IdCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.PageCache;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.entity.CategoryEntity;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.repository.CategoryRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.ManagedEntities;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.CountCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Keyset;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Offsets;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -29,22 +45,56 @@ import static net.logstash.logback.marker.Markers.append;
 public class CategoryPersistenceAdapter implements CategoryPort {
 
     private final CategoryRepository categoryRepository;
+    private final CountCache countCache;
+    private final AggregateCache aggregateCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PageCache pageCache;
+    private final IdCache idCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
+    public Category create(final Category category) {
+        log.info(append("category", category), "Starting category creation in the database...");
+
+        final CategoryEntity entity = CategoryEntity.from(category);
+        entity.markNew();
+
+        final CategoryEntity savedEntity = this.categoryRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.CATEGORIES, savedEntity.getId());
+
+        log.info(append("entity", savedEntity), "Category created successfully!");
+        return savedEntity.toAggregate();
+    }
+
+    @Override
+    @Transactional
     public Category save(final Category category) {
         log.info(append("category", category), "Starting category persistence in the database...");
 
         final CategoryEntity entity = CategoryEntity.from(category);
         log.info(append("entity", entity), "Object mapped successfully!");
 
-        final CategoryEntity savedEntity = this.categoryRepository.save(entity);
+        // a single UPDATE by id, the row is only inserted when it doesn't exist yet
+        if (this.categoryRepository.update(entity) == 0) {
+            entity.markNew();
+            this.categoryRepository.save(entity);
+        } else {
+            ManagedEntities.evict(this.entityManager, CategoryEntity.class, entity.getId());
+        }
+        this.invalidationBus.invalidate(CacheRegions.CATEGORIES, entity.getId());
 
-        log.info(append("entity", savedEntity), "Category persisted successfully!");
-        return savedEntity.toAggregate();
+        log.info(append("entity", entity), "Category persisted successfully!");
+        return entity.toAggregate();
     }
 
     @Override
     public Category getById(final CategoryID id) {
+        return this.aggregateCache.get(CacheRegions.CATEGORIES, id.getValue(), () -> loadById(id), Category::clone);
+    }
+
+    private Category loadById(final CategoryID id) {
         log.info("Searching category in the database... {}", id.getValue());
 
         final Optional<CategoryEntity> categoryEntity = this.categoryRepository.findById(id.getValue());
@@ -61,19 +111,39 @@ public class CategoryPersistenceAdapter implements CategoryPort {
     }
 
     @Override
+    public Optional<Instant> getUpdatedAt(final CategoryID id) {
+        log.info("Searching category last modification in the database... {}", id.getValue());
+        return this.categoryRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID id) {
         log.info("Starting category deletion in the database... {}", id.getValue());
 
-        final String idValue = id.getValue();
-        if (this.categoryRepository.existsById(idValue)) {
-            this.categoryRepository.deleteById(idValue);
-            log.info("Category deleted successfully! {}", idValue);
-        }
+        // the genres and videos that lose it change too, their ETag and Last-Modified must move with them
+        final var now = InstantUtils.now();
+        final int touchedGenres = this.categoryRepository.touchGenresByCategoryId(id.getValue(), now);
+        final int touchedVideos = this.categoryRepository.touchVideosByCategoryId(id.getValue(), now);
 
+        // the association rows go with it through the ON DELETE CASCADE foreign keys
+        final int deleted = this.categoryRepository.bulkDeleteById(id.getValue());
+        this.invalidationBus.invalidate(CacheRegions.CATEGORIES, id.getValue());
+        // the cascade also removed it from the genres and videos that referenced it
+        this.invalidationBus.invalidateAll(CacheRegions.GENRES);
+        this.invalidationBus.invalidateAll(CacheRegions.VIDEOS);
+
+        log.info("Category deletion done! {} {}", kv("id", id.getValue()), kv("deleted", deleted),
+                kv("touchedGenres", touchedGenres), kv("touchedVideos", touchedVideos));
     }
 
     @Override
     public Pagination<Category> listCategories(final SearchQuery query) {
+        final var normalized = query.normalized();
+        return this.pageCache.get(CacheRegions.CATEGORIES, normalized, () -> loadCategories(normalized), Category::clone);
+    }
+
+    private Pagination<Category> loadCategories(final SearchQuery query) {
         log.info(append("params", query), "Searching category in database by parameters");
 
         // Paginação
@@ -89,6 +159,14 @@ public class CategoryPersistenceAdapter implements CategoryPort {
                 .map(this::assembleSpecification)
                 .orElse(null);
 
+        if (query.isKeyset()) {
+            return listCategoriesByKeyset(query, specifications);
+        }
+
+        if (query.countMode() != CountMode.EXACT) {
+            return listCategoriesWithoutCount(query, page, specifications);
+        }
+
         final var pageResult =
                 this.categoryRepository.findAll(Specification.where(specifications), page);
         log.info("were found {} categories", kv("categories_size", pageResult.getTotalElements()));
@@ -109,12 +187,41 @@ public class CategoryPersistenceAdapter implements CategoryPort {
                 .map(CategoryID::getValue)
                 .toList();
 
-        return this.categoryRepository.existsByIds(ids).stream()
+        return this.idCache.existing(CacheRegions.CATEGORIES, ids, this.categoryRepository::existsByIds).stream()
                 .peek(id -> log.info("id found in database: {}", id))
                 .map(CategoryID::from)
                 .toList();
     }
 
+    private Pagination<Category> listCategoriesWithoutCount(final SearchQuery query, final Pageable page,
+            final Specification<CategoryEntity> where) {
+        final var window = this.categoryRepository.findBy(Specification.where(where),
+                fluent -> fluent.sortBy(page.getSort())
+                        .limit(page.getPageSize())
+                        .scroll(Offsets.positionOf(page)));
+        final var items = window.map(CategoryEntity::toAggregate).getContent();
+        log.info("were found {} categories", kv("categories_size", items.size()));
+
+        if (query.countMode() == CountMode.APPROXIMATE) {
+            final var total = this.countCache.get(Offsets.countKey("categories", query.terms()),
+                    () -> this.categoryRepository.count(Specification.where(where)));
+            return Pagination.approximate(query.page(), query.perPage(), total, items, window.hasNext());
+        }
+        return Pagination.uncounted(query.page(), query.perPage(), items, window.hasNext());
+    }
+
+    private Pagination<Category> listCategoriesByKeyset(final SearchQuery query, final Specification<CategoryEntity> where) {
+        final Specification<CategoryEntity> after = Keyset.after(query.cursor(), query.sort(), query.direction());
+
+        final var rows = this.categoryRepository.findBy(Specification.where(where).and(after),
+                fluent -> fluent.sortBy(Keyset.sort(query.sort(), query.direction()))
+                        .limit(Keyset.limit(query.perPage()))
+                        .all());
+        log.info("were found {} categories", kv("categories_size", rows.size()));
+
+        return Keyset.page(rows, query.perPage(), query.sort(), query.direction(), CategoryEntity::toAggregate);
+    }
+
     private Specification<CategoryEntity> assembleSpecification(final String str) {
         final Specification<CategoryEntity> nameLike = like("name", str);
         final Specification<CategoryEntity> descriptionLike = like("description", str);
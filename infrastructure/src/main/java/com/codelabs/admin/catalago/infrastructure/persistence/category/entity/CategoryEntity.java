@@ -2,11 +2,14 @@ package com.codelabs.admin.catalago.infrastructure.persistence.category.entity;
 
 import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AssignedIdEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
 
 import java.time.Instant;
 
@@ -16,9 +19,10 @@ import java.time.Instant;
 @Setter
 @Entity(name = "Category")
 @Table(name = "category")
-public class CategoryEntity {
+public class CategoryEntity extends AssignedIdEntity {
 
     @Id
+    @JavaType(AggregateIdJavaType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
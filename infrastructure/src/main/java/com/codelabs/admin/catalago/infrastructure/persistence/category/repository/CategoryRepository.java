@@ -5,15 +5,56 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
-public interface CategoryRepository extends JpaRepository<CategoryEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryEntity, String>, JpaSpecificationExecutor<CategoryEntity> {
 
     Page<CategoryEntity> findAll(Specification<CategoryEntity> whereClause, Pageable page);
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from Category c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // the adapter evicts the updated entity, the rest of the persistence context stays managed
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update Category c
+            set c.name = :#{#category.name},
+                c.description = :#{#category.description},
+                c.active = :#{#category.active},
+                c.updatedAt = :#{#category.updatedAt},
+                c.deletedAt = :#{#category.deletedAt}
+            where c.id = :#{#category.id}
+            """)
+    int update(@Param("category") CategoryEntity category);
+
+    // the ON DELETE CASCADE leaves the referencing rows untouched, so their validators are bumped by hand
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update Video v
+            set v.updatedAt = :now
+            where v.id in (select vc.id.videoId from VideoCategory vc where vc.id.categoryId = :id)
+            """)
+    int touchVideosByCategoryId(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update Genre g
+            set g.updatedAt = :now
+            where g.id in (select gc.id.genreId from GenreCategoryEntity gc where gc.id.categoryId = :id)
+            """)
+    int touchGenresByCategoryId(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from Category c where c.id = :id")
+    int bulkDeleteById(@Param("id") String id);
 }
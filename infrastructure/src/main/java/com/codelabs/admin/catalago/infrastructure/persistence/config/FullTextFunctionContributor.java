@@ -0,0 +1,25 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes the MySQL {@code MATCH ... AGAINST} predicate to JPQL as {@code match_against(column, terms)}.
+ * <p>
+ * Boolean mode is used so a quoted term behaves as a phrase over the n-gram index, the returned
+ * score is zero when the row does not match.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.config;
+
+import com.codelabs.admin.catalago.common.utils.IdUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.Location;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Applies how the aggregate ids are created and stored. The Hibernate side of the storage is the
+ * {@code hibernate.type.preferred_uuid_jdbc_type} property, which follows the same {@code id-storage} value.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class IdentifierConfig {
+
+    // MySQL only, converts the id columns of the aggregates and of their association tables to BINARY(16)
+    private static final String BINARY_IDS_LOCATION = "classpath:db/ids/binary";
+
+    private final PersistenceProperties properties;
+
+    @PostConstruct
+    void applyIdVersion() {
+        IdUtils.useVersion(properties.getIdVersion());
+        log.info("Aggregate ids configured {} {}", kv("version", properties.getIdVersion()),
+                kv("storage", properties.getIdStorage()));
+    }
+
+    @Bean
+    public FlywayConfigurationCustomizer binaryIdsMigration() {
+        return configuration -> {
+            if (properties.getIdStorage() != IdStorage.BINARY) {
+                return;
+            }
+
+            final var locations = new ArrayList<>(List.of(configuration.getLocations()));
+            locations.add(new Location(BINARY_IDS_LOCATION));
+            configuration.locations(locations.toArray(Location[]::new));
+        };
+    }
+}
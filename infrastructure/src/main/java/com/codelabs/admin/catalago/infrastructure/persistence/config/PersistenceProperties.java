@@ -0,0 +1,54 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.config;
+
+import com.codelabs.admin.catalago.common.utils.IdUtils;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "persistence.catalogo-videos")
+public class PersistenceProperties {
+
+    private VideoSearchMode videoSearchMode = VideoSearchMode.LIKE;
+
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+
+    private long countCacheSize = 10_000;
+
+    private Duration idCacheTtl = Duration.ofMinutes(5);
+
+    private long idCacheSize = 100_000;
+
+    private AggregateCacheProvider aggregateCache = AggregateCacheProvider.GUAVA;
+
+    private Duration aggregateCacheTtl = Duration.ofMinutes(1);
+
+    private long aggregateCacheSize = 10_000;
+
+    private InvalidationTransportType invalidationTransport = InvalidationTransportType.LOOPBACK;
+
+    private Duration invalidationPollInterval = Duration.ofSeconds(1);
+
+    private Duration invalidationGapTimeout = Duration.ofMinutes(5);
+
+    private Duration invalidationRetention = Duration.ofHours(1);
+
+    private boolean pageCacheEnabled = true;
+
+    private Duration pageCacheTtl = Duration.ofSeconds(5);
+
+    private Duration pageCacheStale = Duration.ZERO;
+
+    private long pageCacheSize = 1_000;
+
+    private int pageCacheRefreshConcurrency = 2;
+
+    private IdUtils.Version idVersion = IdUtils.Version.V7;
+
+    private IdStorage idStorage = IdStorage.CHAR;
+}
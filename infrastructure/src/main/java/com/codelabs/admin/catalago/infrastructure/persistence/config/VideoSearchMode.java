@@ -0,0 +1,6 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.config;
+
+public enum VideoSearchMode {
+    LIKE,
+    FULLTEXT
+}
@@ -0,0 +1,102 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.entity;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * The aggregate ids stay text for the domain and the API, in the database they are stored the way
+ * {@code hibernate.type.preferred_uuid_jdbc_type} says: {@code char} keeps the {@code VARCHAR(36)} columns and
+ * {@code binary} uses the {@code BINARY(16)} ones created by the {@code db/ids/binary} migration.
+ * <p>
+ * A value that is not a UUID has no binary form, it is bound as null and matches no row.
+ */
+public class AggregateIdJavaType extends AbstractClassJavaType<String> {
+
+    private static final int BINARY_LENGTH = 16;
+    private static final int TEXT_LENGTH = 36;
+
+    public AggregateIdJavaType() {
+        super(String.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(final JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(indicators.getPreferredSqlTypeCodeForUuid());
+    }
+
+    @Override
+    public long getDefaultSqlLength(final Dialect dialect, final JdbcType jdbcType) {
+        return isBinary(jdbcType) ? BINARY_LENGTH : TEXT_LENGTH;
+    }
+
+    @Override
+    public String fromString(final CharSequence string) {
+        return string == null ? null : string.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+
+        final var uuid = parse(value);
+        if (uuid == null) {
+            return null;
+        }
+        if (UUID.class.isAssignableFrom(type)) {
+            return (X) uuid;
+        }
+        if (byte[].class.isAssignableFrom(type)) {
+            return (X) ByteBuffer.allocate(BINARY_LENGTH)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(final X value, final WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String text) {
+            return text;
+        }
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            final var buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+    private static UUID parse(final String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBinary(final JdbcType jdbcType) {
+        return switch (jdbcType.getDdlTypeCode()) {
+            case SqlTypes.BINARY, SqlTypes.VARBINARY, SqlTypes.UUID -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The aggregates ids are assigned by the application, so Spring Data can't tell a new entity from a detached
+ * one and would {@code merge} (select, then insert) on every save. Entities built for a create are flagged with
+ * {@link #markNew()} and go straight to {@code persist}.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<String> {
+
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public void markNew() {
+        this.isNew = true;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.entity;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Helpers for the entities a bulk statement changes behind the persistence context's back.
+ */
+public final class ManagedEntities {
+
+    private ManagedEntities() {
+    }
+
+    /**
+     * Detaches the instance of the entity the persistence context is managing, if any, so the next read goes to the
+     * database. Unlike {@code clearAutomatically}, the other entities of the unit of work stay managed.
+     */
+    public static void evict(final EntityManager entityManager, final Class<?> type, final Object id) {
+        final var session = entityManager.unwrap(SessionImplementor.class);
+        final var persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(type);
+
+        final var managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            entityManager.detach(managed);
+        }
+    }
+}
@@ -3,20 +3,33 @@ package com.codelabs.admin.catalago.infrastructure.persistence.genre.adapter;
 import com.codelabs.admin.catalago.application.ports.out.GenrePort;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.PersistenceAdapter;
+import com.codelabs.admin.catalago.common.utils.InstantUtils;
 import com.codelabs.admin.catalago.common.utils.SpecificationUtils;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.genre.Genre;
 import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.AggregateCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheRegions;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.IdCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.PageCache;
 import com.codelabs.admin.catalago.infrastructure.persistence.genre.entity.GenreEntity;
 import com.codelabs.admin.catalago.infrastructure.persistence.genre.repositoy.GenreRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.CountCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Keyset;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Offsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -31,15 +44,42 @@ import static org.springframework.data.jpa.domain.Specification.where;
 public class GenrePersistenceAdapter implements GenrePort {
 
     private final GenreRepository genreRepository;
+    private final CountCache countCache;
+    private final AggregateCache aggregateCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PageCache pageCache;
+    private final IdCache idCache;
 
     @Override
+    public Genre create(final Genre genre) {
+        log.info(append("genre", genre), "Starting genre creation in the database...");
+
+        final GenreEntity entity = GenreEntity.from(genre);
+        entity.markNew();
+
+        final GenreEntity savedEntity = this.genreRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.GENRES, savedEntity.getId());
+
+        log.info(append("entity", savedEntity), "Genre created successfully!");
+        return savedEntity.toAggregate();
+    }
+
+    @Override
+    @Transactional
     public Genre save(final Genre genre) {
         log.info(append("genre", genre), "Starting genre persistence in the database...");
 
-        final GenreEntity entity = GenreEntity.from(genre);
+        final GenreEntity entity = this.genreRepository.findById(genre.getId().getValue())
+                .map(existing -> existing.update(genre))
+                .orElseGet(() -> {
+                    final var created = GenreEntity.from(genre);
+                    created.markNew();
+                    return created;
+                });
         log.info(append("entity", entity), "Object mapped successfully!");
 
         final GenreEntity savedEntity = this.genreRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.GENRES, savedEntity.getId());
 
         log.info(append("entity", savedEntity), "Genre persisted successfully!");
         return savedEntity.toAggregate();
@@ -47,6 +87,10 @@ public class GenrePersistenceAdapter implements GenrePort {
 
     @Override
     public Genre getById(final GenreID id) {
+        return this.aggregateCache.get(CacheRegions.GENRES, id.getValue(), () -> loadById(id), Genre::with);
+    }
+
+    private Genre loadById(final GenreID id) {
         log.info("Searching genre in the database... {}", id.getValue());
 
         final Optional<GenreEntity> genreEntity = this.genreRepository.findById(id.getValue());
@@ -63,18 +107,36 @@ public class GenrePersistenceAdapter implements GenrePort {
     }
 
     @Override
+    public Optional<Instant> getUpdatedAt(final GenreID id) {
+        log.info("Searching genre last modification in the database... {}", id.getValue());
+        return this.genreRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final GenreID id) {
         log.info("Starting genre deletion in the database... {}", id.getValue());
 
-        final String idValue = id.getValue();
-        if (this.genreRepository.existsById(idValue)) {
-            this.genreRepository.deleteById(idValue);
-            log.info("Genre deleted successfully! {}", idValue);
-        }
+        // the videos that lose it change too, their ETag and Last-Modified must move with them
+        final int touchedVideos = this.genreRepository.touchVideosByGenreId(id.getValue(), InstantUtils.now());
+
+        // the association rows go with it through the ON DELETE CASCADE foreign keys
+        final int deleted = this.genreRepository.bulkDeleteById(id.getValue());
+        this.invalidationBus.invalidate(CacheRegions.GENRES, id.getValue());
+        // the cascade also removed it from the videos that referenced it
+        this.invalidationBus.invalidateAll(CacheRegions.VIDEOS);
+
+        log.info("Genre deletion done! {} {}", kv("id", id.getValue()), kv("deleted", deleted),
+                kv("touchedVideos", touchedVideos));
     }
 
     @Override
     public Pagination<Genre> listGenres(final SearchQuery query) {
+        final var normalized = query.normalized();
+        return this.pageCache.get(CacheRegions.GENRES, normalized, () -> loadGenres(normalized), Genre::with);
+    }
+
+    private Pagination<Genre> loadGenres(final SearchQuery query) {
         log.info(append("params", query), "Searching genre in database by parameters");
 
         // Paginação
@@ -90,6 +152,14 @@ public class GenrePersistenceAdapter implements GenrePort {
                 .map(this::assembleSpecification)
                 .orElse(null);
 
+        if (query.isKeyset()) {
+            return listGenresByKeyset(query, where);
+        }
+
+        if (query.countMode() != CountMode.EXACT) {
+            return listGenresWithoutCount(query, page, where);
+        }
+
         final var pageResult =
                 this.genreRepository.findAll(where(where), page);
         log.info("were found {} genres", kv("genres_size", pageResult.getTotalElements()));
@@ -110,12 +180,41 @@ public class GenrePersistenceAdapter implements GenrePort {
                 .map(GenreID::getValue)
                 .toList();
 
-        return this.genreRepository.existsByIds(ids).stream()
+        return this.idCache.existing(CacheRegions.GENRES, ids, this.genreRepository::existsByIds).stream()
                 .peek(id -> log.info("id found in database: {}", id))
                 .map(GenreID::from)
                 .toList();
     }
 
+    private Pagination<Genre> listGenresWithoutCount(final SearchQuery query, final Pageable page,
+            final Specification<GenreEntity> where) {
+        final var window = this.genreRepository.findBy(Specification.where(where),
+                fluent -> fluent.sortBy(page.getSort())
+                        .limit(page.getPageSize())
+                        .scroll(Offsets.positionOf(page)));
+        final var items = window.map(GenreEntity::toAggregate).getContent();
+        log.info("were found {} genres", kv("genres_size", items.size()));
+
+        if (query.countMode() == CountMode.APPROXIMATE) {
+            final var total = this.countCache.get(Offsets.countKey("genres", query.terms()),
+                    () -> this.genreRepository.count(Specification.where(where)));
+            return Pagination.approximate(query.page(), query.perPage(), total, items, window.hasNext());
+        }
+        return Pagination.uncounted(query.page(), query.perPage(), items, window.hasNext());
+    }
+
+    private Pagination<Genre> listGenresByKeyset(final SearchQuery query, final Specification<GenreEntity> where) {
+        final Specification<GenreEntity> after = Keyset.after(query.cursor(), query.sort(), query.direction());
+
+        final var rows = this.genreRepository.findBy(Specification.where(where).and(after),
+                fluent -> fluent.sortBy(Keyset.sort(query.sort(), query.direction()))
+                        .limit(Keyset.limit(query.perPage()))
+                        .all());
+        log.info("were found {} genres", kv("genres_size", rows.size()));
+
+        return Keyset.page(rows, query.perPage(), query.sort(), query.direction(), GenreEntity::toAggregate);
+    }
+
     private Specification<GenreEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
@@ -3,23 +3,28 @@ package com.codelabs.admin.catalago.infrastructure.persistence.genre.entity;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.genre.Genre;
 import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JavaType;
 
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
 @Entity(name = "Genre")
 @Table(name = "genres")
-public class GenreEntity {
+public class GenreEntity extends AssignedIdEntity {
 
     @Id
     @Column(name = "id", nullable = false)
+    @JavaType(AggregateIdJavaType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -73,6 +78,29 @@ public class GenreEntity {
         return entity;
     }
 
+    /**
+     * Applies the aggregate state on this managed entity, only the category rows that changed are
+     * inserted or deleted on flush.
+     */
+    public GenreEntity update(final Genre genre) {
+        this.name = genre.getName();
+        this.active = genre.isActive();
+        this.updatedAt = genre.getUpdatedAt();
+        this.deletedAt = genre.getDeletedAt();
+
+        final var ids = genre.getCategories().stream()
+                .map(CategoryID::getValue)
+                .collect(Collectors.toSet());
+        this.categories.removeIf(it -> !ids.contains(it.getId().getCategoryId()));
+
+        final var existing = getCategoryIDs();
+        genre.getCategories().stream()
+                .filter(id -> !existing.contains(id))
+                .forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreID.from(getId()),
@@ -5,15 +5,35 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
-public interface GenreRepository extends JpaRepository<GenreEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreEntity, String>, JpaSpecificationExecutor<GenreEntity> {
 
     Page<GenreEntity> findAll(Specification<GenreEntity> whereClause, Pageable page);
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select g.updatedAt from Genre g where g.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // the ON DELETE CASCADE leaves the referencing rows untouched, so their validators are bumped by hand
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update Video v
+            set v.updatedAt = :now
+            where v.id in (select vg.id.videoId from VideoGenre vg where vg.id.genreId = :id)
+            """)
+    int touchVideosByGenreId(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from Genre g where g.id = :id")
+    int bulkDeleteById(@Param("id") String id);
 }
@@ -0,0 +1,30 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.media.entity;
+
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Entity(name = "MediaBlobReference")
+@Table(name = "media_blob_refs")
+public class MediaBlobReferenceEntity {
+
+    @EmbeddedId
+    private MediaBlobReferenceID id;
+
+    @Column(name = "blob_key", nullable = false)
+    private String blobKey;
+
+    public static MediaBlobReferenceEntity with(final VideoID videoId, final VideoMediaType type, final String blobKey) {
+        return new MediaBlobReferenceEntity(MediaBlobReferenceID.from(videoId.getValue(), type.name()), blobKey);
+    }
+}
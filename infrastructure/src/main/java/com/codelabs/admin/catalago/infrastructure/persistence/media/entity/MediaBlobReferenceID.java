@@ -0,0 +1,28 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.media.entity;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import org.hibernate.annotations.JavaType;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MediaBlobReferenceID implements Serializable {
+
+    @Column(name = "video_id", nullable = false)
+    @JavaType(AggregateIdJavaType.class)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    private String mediaType;
+
+    public static MediaBlobReferenceID from(final String videoId, final String mediaType) {
+        return new MediaBlobReferenceID(videoId, mediaType);
+    }
+}
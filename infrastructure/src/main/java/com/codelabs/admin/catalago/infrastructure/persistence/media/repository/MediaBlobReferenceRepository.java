@@ -0,0 +1,37 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.media.repository;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.media.entity.MediaBlobReferenceEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.media.entity.MediaBlobReferenceID;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaBlobReferenceRepository extends JpaRepository<MediaBlobReferenceEntity, MediaBlobReferenceID> {
+
+    @Query(value = "select r.blobKey from MediaBlobReference r where r.id = :id")
+    Optional<String> findBlobKeyById(@Param("id") MediaBlobReferenceID id);
+
+    @Query(value = "select distinct r.blobKey from MediaBlobReference r where r.id.videoId = :videoId")
+    List<String> findBlobKeysByVideoId(@Param("videoId") String videoId);
+
+    // a release takes these locks, they also cover the index gap of each key, so a reference written meanwhile waits for the blob delete to end
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select r from MediaBlobReference r where r.blobKey in :blobKeys")
+    List<MediaBlobReferenceEntity> lockByBlobKeys(@Param("blobKeys") Collection<String> blobKeys);
+
+    @Query(value = "select distinct r.blobKey from MediaBlobReference r where r.blobKey in :blobKeys")
+    List<String> findReferencedBlobKeys(@Param("blobKeys") Collection<String> blobKeys);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from MediaBlobReference r where r.id.videoId = :videoId")
+    int deleteByVideoId(@Param("videoId") String videoId);
+}
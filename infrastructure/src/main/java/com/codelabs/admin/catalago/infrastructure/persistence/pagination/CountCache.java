@@ -0,0 +1,38 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.pagination;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the exact counts of the {@code APPROXIMATE} listings for a short time, so paging through the same
+ * filters runs the count query once per TTL instead of once per page.
+ */
+@Component
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class CountCache {
+
+    private final Cache<String, Long> counts;
+
+    public CountCache(final PersistenceProperties properties) {
+        this.counts = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .maximumSize(properties.getCountCacheSize())
+                .build();
+    }
+
+    public long get(final String key, final LongSupplier count) {
+        final var cached = this.counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var total = count.getAsLong();
+        this.counts.put(key, total);
+        return total;
+    }
+}
@@ -0,0 +1,60 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.pagination;
+
+import com.codelabs.admin.catalago.common.utils.SpecificationUtils;
+import com.codelabs.admin.catalago.domain.pagination.Cursor;
+import com.codelabs.admin.catalago.domain.pagination.Pagination;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over {@code (sort, id)}: instead of an {@code OFFSET} the next page starts
+ * right after the last row of the previous one, and no count query is issued.
+ */
+public final class Keyset {
+
+    private static final String ID = "id";
+
+    private Keyset() {
+    }
+
+    public static Sort sort(final String sort, final String direction) {
+        final var dir = Sort.Direction.fromString(direction);
+        return Sort.by(dir, sort).and(Sort.by(dir, ID));
+    }
+
+    /**
+     * One extra row is fetched to know whether there is a next page.
+     */
+    public static int limit(final int perPage) {
+        return perPage + 1;
+    }
+
+    public static <T> Specification<T> after(final String token, final String sort, final String direction) {
+        final var cursor = Cursor.decode(token, sort, direction);
+        if (cursor == null) {
+            return null;
+        }
+        return SpecificationUtils.after(cursor.sort(), cursor.value(), cursor.id(),
+                Sort.Direction.fromString(cursor.direction()).isAscending());
+    }
+
+    public static <E, R> Pagination<R> page(final List<E> rows, final int perPage, final String sort,
+                                            final String direction, final Function<E, R> mapper) {
+        final var hasNext = rows.size() > perPage;
+        final var items = hasNext ? rows.subList(0, perPage) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            final var last = new DirectFieldAccessFallbackBeanWrapper(items.get(items.size() - 1));
+            final var value = last.getPropertyValue(sort);
+            nextCursor = Cursor.with(sort, direction, String.valueOf(last.getPropertyValue(ID)),
+                    value == null ? null : String.valueOf(value)).encode();
+        }
+
+        return Pagination.keyset(perPage, items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,28 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+
+public final class Offsets {
+
+    private Offsets() {
+    }
+
+    /**
+     * Position of the first row of the page. Spring Data resumes an offset scroll right after the
+     * given offset, so only the first page uses the initial position.
+     */
+    public static ScrollPosition positionOf(final Pageable page) {
+        return page.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(page.getOffset() - 1);
+    }
+
+    public static String countKey(final String aggregate, final Object... filters) {
+        final var key = new StringBuilder(aggregate);
+        for (final var filter : filters) {
+            key.append('|').append(filter);
+        }
+        return key.toString();
+    }
+}
@@ -5,20 +5,46 @@ import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.PersistenceAdapter;
 import com.codelabs.admin.catalago.common.utils.SqlUtils;
 import com.codelabs.admin.catalago.domain.Identifier;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.video.Video;
 import com.codelabs.admin.catalago.domain.video.VideoID;
 import com.codelabs.admin.catalago.domain.video.VideoPreview;
 import com.codelabs.admin.catalago.domain.video.VideoSearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.AggregateCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheRegions;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.PageCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.VideoSearchMode;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.CountCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Keyset;
+import com.codelabs.admin.catalago.infrastructure.persistence.pagination.Offsets;
 import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.repository.VideoMediaIds;
 import com.codelabs.admin.catalago.infrastructure.persistence.video.repository.VideoRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.repository.VideoSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.codelabs.admin.catalago.common.utils.CollectionUtils.mapTo;
 import static com.codelabs.admin.catalago.common.utils.CollectionUtils.nullIfEmpty;
@@ -28,36 +54,123 @@ import static net.logstash.logback.marker.Markers.append;
 @PersistenceAdapter
 @RequiredArgsConstructor
 @Slf4j
+@EnableConfigurationProperties(PersistenceProperties.class)
 public class VideoPersistenceAdapter implements VideoPort {
 
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final String DEFAULT_SORT = "title";
+
     private final VideoRepository videoRepository;
+    private final PersistenceProperties properties;
+    private final CountCache countCache;
+    private final AggregateCache aggregateCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PageCache pageCache;
+    private final TransactionOperations transactionOperations;
+
+    @Override
+    @Transactional
+    public Video create(final Video video) {
+        log.info(append("video", video), "Starting video creation in the database...");
+
+        final VideoEntity entity = VideoEntity.from(video);
+        entity.markNew();
+
+        final VideoEntity savedEntity = this.videoRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.VIDEOS, savedEntity.getId());
+
+        log.info(append("entity", savedEntity), "Video created successfully!");
+        return savedEntity.toAggregate();
+    }
 
     @Override
     @Transactional
     public Video save(final Video video) {
         log.info(append("video", video), "Starting video persistence in the database...");
 
-        final VideoEntity entity = VideoEntity.from(video);
+        final VideoEntity entity = this.videoRepository.findAggregateById(video.getId().getValue())
+                .map(existing -> existing.update(video))
+                .orElseGet(() -> {
+                    final var created = VideoEntity.from(video);
+                    created.markNew();
+                    return created;
+                });
         log.info(append("entity", entity), "Object mapped successfully!");
 
         final VideoEntity savedEntity = this.videoRepository.save(entity);
+        this.invalidationBus.invalidate(CacheRegions.VIDEOS, savedEntity.getId());
 
         log.info(append("entity", savedEntity), "Video persisted successfully!");
         return savedEntity.toAggregate();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    public List<Video> saveAll(final List<Video> newVideos, final Map<VideoID, UnaryOperator<Video>> updates) {
+        log.info("Starting videos batch persistence in the database... {} {}", kv("new", newVideos.size()),
+                kv("updates", updates.size()));
+
+        // only the updated ones are loaded, the new ones are persisted without a merge select
+        final List<VideoEntity> updated = updates.isEmpty()
+                ? List.of()
+                : this.videoRepository.findAggregatesByIdIn(mapTo(updates.keySet(), VideoID::getValue)).stream()
+                .map(entity -> entity.update(updates.get(VideoID.from(entity.getId())).apply(entity.toAggregate())))
+                .toList();
+
+        final List<VideoEntity> created = newVideos.stream()
+                .map(video -> {
+                    final var entity = VideoEntity.from(video);
+                    entity.markNew();
+                    return entity;
+                })
+                .toList();
+
+        // the inserts and updates are flushed in JDBC batches
+        final List<VideoEntity> savedEntities = this.videoRepository.saveAll(
+                Stream.concat(created.stream(), updated.stream()).toList());
+
+        // a single region event instead of one per video, which the database transport would write row by row
+        this.invalidationBus.invalidateAll(CacheRegions.VIDEOS);
+
+        log.info("Videos batch persisted successfully! {} {}", kv("created", created.size()),
+                kv("updated", updated.size()));
+        return savedEntities.stream()
+                .map(VideoEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
     public Video getById(final VideoID id) {
+        return this.aggregateCache.get(CacheRegions.VIDEOS, id.getValue(), () -> loadById(id), Video::with);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Video> getAllByIds(final Iterable<VideoID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(VideoID::getValue)
+                .toList();
+        log.info("Searching videos in the database... {}", kv("size", values.size()));
+
+        return this.videoRepository.findAggregatesByIdIn(values).stream()
+                .map(VideoEntity::toAggregate)
+                .toList();
+    }
+
+    // only a cache miss opens a transaction, the categories and genres subselects run when toAggregate reaches them
+    private Video loadById(final VideoID id) {
         log.info("Searching video in the database... {}", id.getValue());
 
-        final Optional<VideoEntity> genreEntity = this.videoRepository.findById(id.getValue());
+        final Optional<Video> found = this.transactionOperations.execute(status -> {
+            final Optional<VideoEntity> videoEntity = this.videoRepository.findAggregateById(id.getValue());
 
-        genreEntity.ifPresent(
-                entity -> log.info(append("entity", entity), "Video found successfully!"));
+            videoEntity.ifPresent(
+                    entity -> log.info(append("entity", entity), "Video found successfully!"));
 
-        final Video video = genreEntity
-                .map(VideoEntity::toAggregate)
+            return videoEntity.map(VideoEntity::toAggregate);
+        });
+
+        final Video video = found
                 .orElseThrow(() -> new NotFoundException(String.format("Video not found in database with id %s", id.getValue())));
 
         log.info(append("video", video), "Entity to domain mapping done!");
@@ -65,33 +178,106 @@ public class VideoPersistenceAdapter implements VideoPort {
     }
 
     @Override
-    public void deleteById(final VideoID id) {
+    @Transactional(readOnly = true)
+    public Optional<Instant> getUpdatedAt(final VideoID id) {
+        log.info("Searching video last modification in the database... {}", id.getValue());
+        return this.videoRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getMediaChecksum(final VideoID id, final VideoMediaType type) {
+        log.info("Searching video media checksum in the database... {} {}", kv("id", id.getValue()), kv("type", type));
+
+        final String idValue = id.getValue();
+        return switch (type) {
+            case VIDEO -> this.videoRepository.findVideoChecksumById(idValue);
+            case TRAILER -> this.videoRepository.findTrailerChecksumById(idValue);
+            case BANNER -> this.videoRepository.findBannerChecksumById(idValue);
+            case THUMBNAIL -> this.videoRepository.findThumbnailChecksumById(idValue);
+            case THUMBNAIL_HALF -> this.videoRepository.findThumbnailHalfChecksumById(idValue);
+        };
+    }
+
+    @Override
+    @Transactional
+    public int deleteById(final VideoID id) {
         log.info("Starting video deletion in the database... {}", id.getValue());
 
         final String idValue = id.getValue();
-        if (this.videoRepository.existsById(idValue)) {
-            this.videoRepository.deleteById(idValue);
-            log.info("Video deleted successfully! {}", idValue);
+        this.invalidationBus.invalidate(CacheRegions.VIDEOS, idValue);
+
+        final Optional<VideoMediaIds> medias = this.videoRepository.findMediaIdsById(idValue);
+        if (medias.isEmpty()) {
+            log.info("Video not found, nothing to delete {}", kv("id", idValue));
+            return 0;
+        }
+
+        // the association rows cascade from the videos row, the medias are referenced by it so they go after
+        final int deleted = this.videoRepository.bulkDeleteById(idValue);
+
+        final var audioVideos = medias.get().audioVideos();
+        if (!audioVideos.isEmpty()) {
+            this.videoRepository.deleteAudioVideoMediasByIds(audioVideos);
         }
+
+        final var images = medias.get().images();
+        if (!images.isEmpty()) {
+            this.videoRepository.deleteImageMediasByIds(images);
+        }
+
+        log.info("Video deletion done! {} {}", kv("id", idValue), kv("deleted", deleted));
+        return deleted;
     }
 
     @Override
     public Pagination<VideoPreview> listVideos(final VideoSearchQuery query) {
+        final var normalized = query.normalized();
+        return this.pageCache.get(CacheRegions.VIDEOS, normalized, () -> loadVideos(normalized), UnaryOperator.identity());
+    }
+
+    private Pagination<VideoPreview> loadVideos(final VideoSearchQuery query) {
         log.info(append("params", query), "Searching video in database by parameters");
 
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+        final var castMembers = nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(query.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(query.genres(), Identifier::getValue));
+
+        final var phrase = SqlUtils.phrase(query.terms());
+        final var fullText = properties.getVideoSearchMode() == VideoSearchMode.FULLTEXT && phrase != null;
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(query.terms())),
-                nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
-                page);
-        log.info("were found {} videos", kv("videos_size", actualPage.getTotalElements()));
+        final var byRelevance = fullText && RELEVANCE_SORT.equalsIgnoreCase(query.sort());
+
+        if (query.isKeyset() || (query.countMode() != CountMode.EXACT && !byRelevance)) {
+            final var title = fullText
+                    ? VideoSpecifications.titleMatches(phrase)
+                    : VideoSpecifications.titleLike(SqlUtils.like(SqlUtils.upper(query.terms())));
+            final var where = Specification.where(title)
+                    .and(VideoSpecifications.hasCastMember(castMembers))
+                    .and(VideoSpecifications.hasCategory(categories))
+                    .and(VideoSpecifications.hasGenre(genres));
+
+            if (query.isKeyset()) {
+                return listVideosByKeyset(query, where);
+            }
+            return listVideosWithoutCount(query, where, Offsets.countKey("videos", fullText, query.terms(),
+                    sorted(castMembers), sorted(categories), sorted(genres)));
+        }
+
+        final Page<VideoPreview> actualPage;
+        if (byRelevance) {
+            // the relevance order only exists in JPQL, so it always pages with an exact count
+            actualPage = this.videoRepository.findAllByRelevance(phrase, castMembers, categories, genres,
+                    PageRequest.of(query.page(), query.perPage()));
+        } else if (fullText) {
+            actualPage = this.videoRepository.findAllByFullText(phrase, castMembers, categories, genres,
+                    PageRequest.of(query.page(), query.perPage(), sortOf(query)));
+        } else {
+            actualPage = this.videoRepository.findAll(SqlUtils.like(SqlUtils.upper(query.terms())),
+                    castMembers, categories, genres,
+                    PageRequest.of(query.page(), query.perPage(), sortOf(query)));
+        }
+        log.info("were found {} {}", kv("videos_size", actualPage.getTotalElements()), kv("fullText", fullText));
 
         return new Pagination<>(
                 actualPage.getNumber(),
@@ -100,4 +286,46 @@ public class VideoPersistenceAdapter implements VideoPort {
                 actualPage.toList()
         );
     }
+
+    private Pagination<VideoPreview> listVideosWithoutCount(final VideoSearchQuery query,
+                                                            final Specification<VideoEntity> where,
+                                                            final String countKey) {
+        final var page = PageRequest.of(query.page(), query.perPage(), sortOf(query));
+
+        final var rows = this.videoRepository.findPreviews(where, page.getSort(), page.getOffset(), query.perPage() + 1);
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+        log.info("were found {}", kv("videos_size", items.size()));
+
+        if (query.countMode() == CountMode.APPROXIMATE) {
+            final var total = this.countCache.get(countKey, () -> this.videoRepository.count(where));
+            return Pagination.approximate(query.page(), query.perPage(), total, items, hasNext);
+        }
+        return Pagination.uncounted(query.page(), query.perPage(), items, hasNext);
+    }
+
+    // relevance is not a column to seek on, keyset listings keep the title order like the non full-text ones
+    private Pagination<VideoPreview> listVideosByKeyset(final VideoSearchQuery query, final Specification<VideoEntity> where) {
+        final var sort = sortPropertyOf(query);
+        final Specification<VideoEntity> after = Keyset.after(query.cursor(), sort, query.direction());
+
+        final var rows = this.videoRepository.findPreviews(where.and(after),
+                Keyset.sort(sort, query.direction()), 0, Keyset.limit(query.perPage()));
+        log.info("were found {}", kv("videos_size", rows.size()));
+
+        return Keyset.page(rows, query.perPage(), sort, query.direction(), Function.identity());
+    }
+
+    // relevance only exists for a full-text search, without one the listing keeps the default title order
+    private static Sort sortOf(final VideoSearchQuery query) {
+        return Sort.by(Sort.Direction.fromString(query.direction()), sortPropertyOf(query));
+    }
+
+    private static Set<String> sorted(final Set<String> ids) {
+        return ids == null ? null : new TreeSet<>(ids);
+    }
+
+    private static String sortPropertyOf(final VideoSearchQuery query) {
+        return RELEVANCE_SORT.equalsIgnoreCase(query.sort()) ? DEFAULT_SORT : query.sort();
+    }
 }
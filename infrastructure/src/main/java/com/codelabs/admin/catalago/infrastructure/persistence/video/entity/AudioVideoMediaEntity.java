@@ -46,6 +46,15 @@ public class AudioVideoMediaEntity {
         );
     }
 
+    public AudioVideoMediaEntity update(final AudioVideoMedia media) {
+        this.checksum = media.getChecksum();
+        this.name = media.getName();
+        this.filePath = media.getRawLocation();
+        this.encodedPath = media.getEncodedLocation();
+        this.status = media.getStatus();
+        return this;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
                 getId(),
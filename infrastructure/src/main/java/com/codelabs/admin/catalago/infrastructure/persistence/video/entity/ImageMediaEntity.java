@@ -38,6 +38,13 @@ public class ImageMediaEntity {
         );
     }
 
+    public ImageMediaEntity update(final ImageMedia media) {
+        this.checksum = media.getChecksum();
+        this.name = media.getName();
+        this.filePath = media.getLocation();
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
                 getId(),
@@ -1,8 +1,10 @@
 package com.codelabs.admin.catalago.infrastructure.persistence.video.entity;
 
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
 
 import java.io.Serializable;
 
@@ -14,9 +16,11 @@ import java.io.Serializable;
 public class VideoCategoryID implements Serializable {
 
     @Column(name = "video_id", nullable = false)
+    @JavaType(AggregateIdJavaType.class)
     private String videoId;
 
     @Column(name = "category_id", nullable = false)
+    @JavaType(AggregateIdJavaType.class)
     private String categoryId;
 
     public static VideoCategoryID from(final String videoId, final String categoryId) {
@@ -4,27 +4,53 @@ import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.enums.Rating;
 import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.video.AudioVideoMedia;
+import com.codelabs.admin.catalago.domain.video.ImageMedia;
 import com.codelabs.admin.catalago.domain.video.Video;
 import com.codelabs.admin.catalago.domain.video.VideoID;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AggregateIdJavaType;
+import com.codelabs.admin.catalago.infrastructure.persistence.entity.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.JavaType;
 
 import java.time.Instant;
 import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.codelabs.admin.catalago.common.utils.CollectionUtils.mapTo;
+
 @Getter
 @NoArgsConstructor
 @Table(name = "videos")
 @Entity(name = "Video")
-public class VideoEntity {
+@NamedEntityGraph(name = VideoEntity.AGGREGATE_GRAPH, attributeNodes = {
+        @NamedAttributeNode("video"),
+        @NamedAttributeNode("trailer"),
+        @NamedAttributeNode("banner"),
+        @NamedAttributeNode("thumbnail"),
+        @NamedAttributeNode("thumbnailHalf"),
+        @NamedAttributeNode("castMembers")
+})
+public class VideoEntity extends AssignedIdEntity {
+
+    /**
+     * The medias and the cast members {@link #toAggregate()} walks, joined in one select. Only one collection is
+     * joined, since every further one would multiply the rows; the categories and genres are each loaded by a
+     * subselect over the same videos once {@link #toAggregate()} reaches them.
+     */
+    public static final String AGGREGATE_GRAPH = "Video.aggregate";
 
     @Id
     @Column(name = "id", nullable = false)
+    @JavaType(AggregateIdJavaType.class)
     private String id;
 
     @Column(name = "title", nullable = false)
@@ -54,30 +80,32 @@ public class VideoEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaEntity video;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "trailer_id")
     private AudioVideoMediaEntity trailer;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "banner_id")
     private ImageMediaEntity banner;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_id")
     private ImageMediaEntity thumbnail;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaEntity thumbnailHalf;
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<VideoCategoryEntity> categories;
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<VideoGenreEntity> genres;
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -161,6 +189,35 @@ public class VideoEntity {
         return entity;
     }
 
+    /**
+     * Applies the aggregate state on this managed entity. Association rows and medias that did not change
+     * are kept as they are, so the flush only issues statements for the actual difference.
+     */
+    public VideoEntity update(final Video video) {
+        this.title = video.getTitle();
+        this.description = video.getDescription();
+        this.yearLaunched = video.getLaunchedAt().getValue();
+        this.opened = video.getOpened();
+        this.published = video.getPublished();
+        this.rating = video.getRating();
+        this.duration = video.getDuration();
+        this.updatedAt = video.getUpdatedAt();
+        this.video = sync(this.video, video.getVideo().orElse(null));
+        this.trailer = sync(this.trailer, video.getTrailer().orElse(null));
+        this.banner = sync(this.banner, video.getBanner().orElse(null));
+        this.thumbnail = sync(this.thumbnail, video.getThumbnail().orElse(null));
+        this.thumbnailHalf = sync(this.thumbnailHalf, video.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, mapTo(video.getCategories(), CategoryID::getValue),
+                it -> it.getId().getCategoryId(), it -> VideoCategoryEntity.from(this, CategoryID.from(it)));
+        sync(this.genres, mapTo(video.getGenres(), GenreID::getValue),
+                it -> it.getId().getGenreId(), it -> VideoGenreEntity.from(this, GenreID.from(it)));
+        sync(this.castMembers, mapTo(video.getCastMembers(), CastMemberID::getValue),
+                it -> it.getId().getCastMemberId(), it -> VideoCastMemberEntity.from(this, CastMemberID.from(it)));
+
+        return this;
+    }
+
     public Video toAggregate() {
         return Video.with(
                 VideoID.from(getId()),
@@ -211,4 +268,33 @@ public class VideoEntity {
     public void addCastMember(final CastMemberID id) {
         this.castMembers.add(VideoCastMemberEntity.from(this, id));
     }
+
+    private static AudioVideoMediaEntity sync(final AudioVideoMediaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        return current != null && current.getId().equals(media.getId())
+                ? current.update(media)
+                : AudioVideoMediaEntity.from(media);
+    }
+
+    private static ImageMediaEntity sync(final ImageMediaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        return current != null && current.getId().equals(media.getId())
+                ? current.update(media)
+                : ImageMediaEntity.from(media);
+    }
+
+    private static <T> void sync(final Set<T> current, final Set<String> ids, final Function<T, String> idOf,
+                                 final Function<String, T> create) {
+        current.removeIf(it -> !ids.contains(idOf.apply(it)));
+
+        final var existing = mapTo(current, idOf);
+        ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(create)
+                .forEach(current::add);
+    }
 }
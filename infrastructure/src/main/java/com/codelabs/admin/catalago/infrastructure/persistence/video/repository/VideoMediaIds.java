@@ -0,0 +1,22 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.video.repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record VideoMediaIds(
+        String video,
+        String trailer,
+        String banner,
+        String thumbnail,
+        String thumbnailHalf
+) {
+
+    public List<String> audioVideos() {
+        return Stream.of(video, trailer).filter(Objects::nonNull).toList();
+    }
+
+    public List<String> images() {
+        return Stream.of(banner, thumbnail, thumbnailHalf).filter(Objects::nonNull).toList();
+    }
+}
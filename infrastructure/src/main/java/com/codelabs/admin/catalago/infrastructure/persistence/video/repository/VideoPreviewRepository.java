@@ -0,0 +1,16 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.video.repository;
+
+import com.codelabs.admin.catalago.domain.video.VideoPreview;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface VideoPreviewRepository {
+
+    /**
+     * Projects the matching videos straight to {@link VideoPreview}, without a count query.
+     */
+    List<VideoPreview> findPreviews(Specification<VideoEntity> where, Sort sort, long offset, int limit);
+}
@@ -0,0 +1,44 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.video.repository;
+
+import com.codelabs.admin.catalago.domain.video.VideoPreview;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class VideoPreviewRepositoryImpl implements VideoPreviewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VideoPreview> findPreviews(final Specification<VideoEntity> where, final Sort sort, final long offset,
+                                           final int limit) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var root = query.from(VideoEntity.class);
+
+        query.select(cb.construct(VideoPreview.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        final var predicate = Specification.where(where).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, cb));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
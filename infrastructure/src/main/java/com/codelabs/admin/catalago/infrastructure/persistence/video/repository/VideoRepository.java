@@ -4,16 +4,24 @@ import com.codelabs.admin.catalago.domain.video.VideoPreview;
 import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
-public interface VideoRepository extends JpaRepository<VideoEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoEntity, String>, JpaSpecificationExecutor<VideoEntity>,
+        VideoPreviewRepository {
 
-    @Query("""
-            select distinct new com.codelabs.admin.catalago.domain.video.VideoPreview(
+    @Query(value = """
+            select new com.codelabs.admin.catalago.domain.video.VideoPreview(
                 v.id as id,
                 v.title as title,
                 v.description as description,
@@ -21,17 +29,32 @@ public interface VideoRepository extends JpaRepository<VideoEntity, String> {
                 v.updatedAt as updatedAt
             )
             from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
             where
                 ( :terms is null or UPPER(v.title) like :terms )
             and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
             and
-                ( :categories is null or categories.id.categoryId in :categories )
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
             and
-                ( :genres is null or genres.id.genreId in :genres )
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
+            """,
+            countQuery = """
+            select count(v)
+            from Video v
+            where
+                ( :terms is null or UPPER(v.title) like :terms )
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
             """)
     Page<VideoPreview> findAll(
             @Param("terms") String terms,
@@ -40,4 +63,143 @@ public interface VideoRepository extends JpaRepository<VideoEntity, String> {
             @Param("genres") Set<String> genres,
             Pageable page
     );
+
+    @Query(value = """
+            select new com.codelabs.admin.catalago.domain.video.VideoPreview(
+                v.id as id,
+                v.title as title,
+                v.description as description,
+                v.createdAt as createdAt,
+                v.updatedAt as updatedAt
+            )
+            from Video v
+            where
+                match_against(v.title, :terms) > 0
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
+            """,
+            countQuery = """
+            select count(v)
+            from Video v
+            where
+                match_against(v.title, :terms) > 0
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
+            """)
+    Page<VideoPreview> findAllByFullText(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres,
+            Pageable page
+    );
+
+    @Query(value = """
+            select new com.codelabs.admin.catalago.domain.video.VideoPreview(
+                v.id as id,
+                v.title as title,
+                v.description as description,
+                v.createdAt as createdAt,
+                v.updatedAt as updatedAt
+            )
+            from Video v
+            where
+                match_against(v.title, :terms) > 0
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
+            order by match_against(v.title, :terms) desc, v.title asc
+            """,
+            countQuery = """
+            select count(v)
+            from Video v
+            where
+                match_against(v.title, :terms) > 0
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember m where m.video = v and m.id.castMemberId in :castMembers ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory c where c.video = v and c.id.categoryId in :categories ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre g where g.video = v and g.id.genreId in :genres ) )
+            """)
+    Page<VideoPreview> findAllByRelevance(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres,
+            Pageable page
+    );
+
+    @EntityGraph(VideoEntity.AGGREGATE_GRAPH)
+    Optional<VideoEntity> findAggregateById(String id);
+
+    @EntityGraph(VideoEntity.AGGREGATE_GRAPH)
+    List<VideoEntity> findAggregatesByIdIn(Collection<String> ids);
+
+    @Query(value = "select v.updatedAt from Video v where v.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query(value = "select m.checksum from Video v join v.video m where v.id = :id")
+    Optional<String> findVideoChecksumById(@Param("id") String id);
+
+    @Query(value = "select m.checksum from Video v join v.trailer m where v.id = :id")
+    Optional<String> findTrailerChecksumById(@Param("id") String id);
+
+    @Query(value = "select m.checksum from Video v join v.banner m where v.id = :id")
+    Optional<String> findBannerChecksumById(@Param("id") String id);
+
+    @Query(value = "select m.checksum from Video v join v.thumbnail m where v.id = :id")
+    Optional<String> findThumbnailChecksumById(@Param("id") String id);
+
+    @Query(value = "select m.checksum from Video v join v.thumbnailHalf m where v.id = :id")
+    Optional<String> findThumbnailHalfChecksumById(@Param("id") String id);
+
+    @Query(value = """
+            select new com.codelabs.admin.catalago.infrastructure.persistence.video.repository.VideoMediaIds(
+                video.id, trailer.id, banner.id, thumbnail.id, thumbnailHalf.id
+            )
+            from Video v
+            left join v.video video
+            left join v.trailer trailer
+            left join v.banner banner
+            left join v.thumbnail thumbnail
+            left join v.thumbnailHalf thumbnailHalf
+            where v.id = :id
+            """)
+    Optional<VideoMediaIds> findMediaIdsById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from Video v where v.id = :id")
+    int bulkDeleteById(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "delete from AudioVideoMedia m where m.id in :ids")
+    int deleteAudioVideoMediasByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "delete from ImageMedia m where m.id in :ids")
+    int deleteImageMediasByIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,58 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.video.repository;
+
+import com.codelabs.admin.catalago.infrastructure.persistence.config.FullTextFunctionContributor;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoCastMemberEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoCategoryEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.entity.VideoGenreEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Criteria version of the {@link VideoRepository#findAll} filters, used where the JPQL queries can not
+ * be reused (e.g. keyset listings).
+ */
+public final class VideoSpecifications {
+
+    private VideoSpecifications() {
+    }
+
+    public static Specification<VideoEntity> titleLike(final String terms) {
+        if (terms == null) return null;
+        return (root, query, cb) -> cb.like(cb.upper(root.get("title")), terms);
+    }
+
+    public static Specification<VideoEntity> titleMatches(final String phrase) {
+        if (phrase == null) return null;
+        return (root, query, cb) -> cb.greaterThan(
+                cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class, root.get("title"), cb.literal(phrase)),
+                0d);
+    }
+
+    public static Specification<VideoEntity> hasCastMember(final Set<String> ids) {
+        return hasAssociation(VideoCastMemberEntity.class, "castMemberId", ids);
+    }
+
+    public static Specification<VideoEntity> hasCategory(final Set<String> ids) {
+        return hasAssociation(VideoCategoryEntity.class, "categoryId", ids);
+    }
+
+    public static Specification<VideoEntity> hasGenre(final Set<String> ids) {
+        return hasAssociation(VideoGenreEntity.class, "genreId", ids);
+    }
+
+    private static Specification<VideoEntity> hasAssociation(final Class<?> association, final String idAttribute,
+                                                             final Set<String> ids) {
+        if (ids == null) return null;
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(Integer.class);
+            final var from = subquery.from(association);
+
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(from.get("video"), root), from.get("id").get(idAttribute).in(ids));
+
+            return cb.exists(subquery);
+        };
+    }
+}
@@ -1,15 +1,28 @@
 package com.codelabs.admin.catalago.infrastructure.storing.adapter;
 
 import com.codelabs.admin.catalago.application.ports.out.MediaResourcePort;
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
 import com.codelabs.admin.catalago.common.stereotype.StoringAdapter;
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.video.*;
+import com.codelabs.admin.catalago.infrastructure.persistence.media.entity.MediaBlobReferenceEntity;
+import com.codelabs.admin.catalago.infrastructure.persistence.media.entity.MediaBlobReferenceID;
+import com.codelabs.admin.catalago.infrastructure.persistence.media.repository.MediaBlobReferenceRepository;
+import com.codelabs.admin.catalago.infrastructure.storing.config.MediaLayout;
 import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
-import com.codelabs.admin.catalago.infrastructure.storing.service.S3UploadService;
+import com.codelabs.admin.catalago.infrastructure.storing.service.StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
 
 @StoringAdapter
 @RequiredArgsConstructor
@@ -17,35 +30,201 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @EnableConfigurationProperties(StoringProperties.class)
 public class MediaResourceAdapter implements MediaResourcePort {
 
+    private static final String BLOBS_FOLDER = "blobs/";
+    private static final String UPLOADS_FOLDER = "/uploads/";
+
     private final StoringProperties properties;
-    private final S3UploadService s3UploadService;
+    private final StorageService storageService;
+    private final MediaBlobReferenceRepository blobReferenceRepository;
+    private final TransactionOperations transactionOperations;
 
     @Override
     public AudioVideoMedia storeAudioVideo(VideoID id, VideoResource videoResource) {
-        final var key = generateKey(id, videoResource.type());
         final var resource = videoResource.resource();
-        store(key, resource);
+        final var key = store(id, videoResource.type(), resource);
         return AudioVideoMedia.with(resource.getChecksum(), resource.getName(), key);
     }
 
     @Override
     public ImageMedia storeImage(VideoID id, VideoResource videoResource) {
-        final var key = generateKey(id, videoResource.type());
         final var resource = videoResource.resource();
-        store(key, resource);
+        final var key = store(id, videoResource.type(), resource);
         return ImageMedia.with(resource.getChecksum(), resource.getName(), key);
     }
 
     @Override
     public Resource getResource(final VideoID id, final VideoMediaType type) {
-        return this.s3UploadService.get(generateKey(id, type))
+        return getResource(id, type, null);
+    }
+
+    @Override
+    public Resource getResource(final VideoID id, final VideoMediaType type, final ByteRange range) {
+        return findKey(id, type)
+                .flatMap(key -> this.storageService.get(key, range))
+                .orElseThrow(() -> new NotFoundException("Resource %s not found for video %s".formatted(type, id)));
+    }
+
+    @Override
+    public PresignedUrl presignUpload(final VideoID id, final VideoMediaType type, final MediaUpload upload) {
+        // the client writes to a key of its own, the media in use only changes once the completion validates it
+        final var uploadId = IdUtils.uuid();
+        return this.storageService.presignUpload(uploadKey(id, uploadId), upload, properties.getPresignedUrlTtl())
+                .withUploadId(uploadId);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(final VideoID id, final VideoMediaType type) {
+        final var key = findKey(id, type)
                 .orElseThrow(() -> new NotFoundException("Resource %s not found for video %s".formatted(type, id)));
+        return this.storageService.presignDownload(key, properties.getPresignedUrlTtl());
     }
 
     @Override
-    public void clearResources(VideoID id) {
-        final var ids = this.s3UploadService.list(folder(id));
-        this.s3UploadService.deleteAll(ids);
+    public Optional<StoredMedia> getUpload(final VideoID id, final String uploadId) {
+        return this.storageService.head(uploadKey(id, uploadId));
+    }
+
+    @Override
+    public StoredMedia completeUpload(final VideoID id, final VideoMediaType type, final StoredMedia upload) {
+        if (!isContentAddressed()) {
+            final var key = generateKey(id, type);
+            this.storageService.move(upload.location(), key);
+            return StoredMedia.with(key, upload.checksum(), upload.name(), upload.contentLength());
+        }
+
+        // the client only sends a CRC32C, too weak to share a blob by, so the upload keeps its own key
+        reference(id, type, upload.location())
+                .filter(it -> !it.equals(upload.location()))
+                .ifPresent(it -> releaseBlobs(List.of(it)));
+        return upload;
+    }
+
+    @Override
+    public MediaCleanupReport clearResources(VideoID id) {
+        final var report = isContentAddressed()
+                ? releaseBlobs(union(dropReferences(id), this.storageService.list(folder(id).concat(UPLOADS_FOLDER))))
+                : deleteAll(this.storageService.list(folder(id)));
+
+        log.info("Resources cleared {} {} {}", kv("videoId", id.getValue()),
+                kv("deleted", report.deleted().size()), kv("failed", report.failed().size()));
+
+        return report;
+    }
+
+    private String store(final VideoID id, final VideoMediaType type, final Resource resource) {
+        if (!isContentAddressed()) {
+            final var key = generateKey(id, type);
+            this.storageService.store(key, resource);
+            return key;
+        }
+
+        // without a digest the media gets a key of its own, so the transfer never overwrites the blob in use
+        final var digest = resource.getDigest();
+        final var key = digest
+                .map(it -> blobKey(it, resource.getContentLength()))
+                .orElseGet(() -> uploadKey(id, IdUtils.uuid()));
+
+        // the transfer runs outside of any transaction, only the reference is recorded in one
+        final var uploaded = digest.isEmpty() || this.storageService.head(key).isEmpty();
+        if (uploaded) {
+            this.storageService.store(key, resource);
+        } else {
+            log.info("Identical media already stored, upload skipped {} {}", kv("key", key), kv("type", type));
+        }
+
+        final Optional<String> previous;
+        try {
+            previous = reference(id, type, key);
+        } catch (final RuntimeException ex) {
+            if (uploaded) {
+                releaseBlobs(List.of(key));
+            }
+            throw ex;
+        }
+
+        previous.filter(it -> !it.equals(key))
+                .ifPresent(it -> releaseBlobs(List.of(it)));
+        return key;
+    }
+
+    /**
+     * Points the media of the video at the blob and returns the blob it pointed to before. Writing the reference
+     * waits on the locks of a release of the same blob, so a blob deleted meanwhile is noticed by the existence
+     * check and the reference is rolled back instead of pointing at nothing.
+     */
+    private Optional<String> reference(final VideoID id, final VideoMediaType type, final String key) {
+        return this.transactionOperations.execute(status -> {
+            final var previous = this.blobReferenceRepository
+                    .findBlobKeyById(MediaBlobReferenceID.from(id.getValue(), type.name()));
+            this.blobReferenceRepository.saveAndFlush(MediaBlobReferenceEntity.with(id, type, key));
+
+            if (this.storageService.head(key).isEmpty()) {
+                throw new InternalErrorException("Media blob %s was released while being referenced [videoId:%s]"
+                        .formatted(key, id.getValue()));
+            }
+            return previous;
+        });
+    }
+
+    private List<String> dropReferences(final VideoID id) {
+        return this.transactionOperations.execute(status -> {
+            final var keys = this.blobReferenceRepository.findBlobKeysByVideoId(id.getValue());
+            if (!keys.isEmpty()) {
+                this.blobReferenceRepository.deleteByVideoId(id.getValue());
+            }
+            return keys;
+        });
+    }
+
+    /**
+     * Deletes the blobs no reference points to anymore. The locks taken on the references of those blobs keep a
+     * new reference from being written until the delete ends, and they are released right after it.
+     */
+    private MediaCleanupReport releaseBlobs(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return MediaCleanupReport.empty();
+        }
+
+        return this.transactionOperations.execute(status -> {
+            this.blobReferenceRepository.lockByBlobKeys(keys);
+
+            final var unreferenced = new ArrayList<>(keys);
+            unreferenced.removeAll(this.blobReferenceRepository.findReferencedBlobKeys(keys));
+            return deleteAll(unreferenced);
+        });
+    }
+
+    // the uploads never completed have no reference, the release deletes them with the rest
+    private static List<String> union(final List<String> keys, final List<String> uploads) {
+        final var all = new ArrayList<>(keys);
+        uploads.stream().filter(it -> !keys.contains(it)).forEach(all::add);
+        return all;
+    }
+
+    private MediaCleanupReport deleteAll(final List<String> keys) {
+        return keys.isEmpty() ? MediaCleanupReport.empty() : this.storageService.deleteAll(keys);
+    }
+
+    private Optional<String> findKey(final VideoID id, final VideoMediaType type) {
+        if (!isContentAddressed()) {
+            return Optional.of(generateKey(id, type));
+        }
+        return this.blobReferenceRepository.findBlobKeyById(MediaBlobReferenceID.from(id.getValue(), type.name()));
+    }
+
+    private boolean isContentAddressed() {
+        return properties.getLayout() == MediaLayout.CONTENT_ADDRESSED;
+    }
+
+    // keyed by the SHA-256 of the content, so two different medias never resolve to the same blob
+    private String blobKey(final String digest, final long contentLength) {
+        return BLOBS_FOLDER + digest + "-" + contentLength;
+    }
+
+    private String uploadKey(final VideoID id, final String uploadId) {
+        return folder(id)
+                .concat(UPLOADS_FOLDER)
+                .concat(uploadId);
     }
 
     private String generateKey(final VideoID id, final VideoMediaType type) {
@@ -61,8 +240,4 @@ public class MediaResourceAdapter implements MediaResourcePort {
     private String folder(final VideoID id) {
         return properties.getLocationPattern().replace("{videoId}", id.getValue());
     }
-
-    private void store(final String key, final Resource resource) {
-        this.s3UploadService.store(key, resource);
-    }
 }
@@ -1,20 +1,25 @@
 package com.codelabs.admin.catalago.infrastructure.storing.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(S3Properties.class)
+@EnableConfigurationProperties({S3Properties.class, StoringProperties.class})
 public class AmazonS3Config {
 
     private final S3Properties properties;
+    private final StoringProperties storingProperties;
 
     @Bean
     public S3Client amazonS3() {
@@ -31,4 +36,25 @@ public class AmazonS3Config {
                 .build();
     }
 
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(properties.getRegion()))
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "s3-async")
+    public S3AsyncClient amazonS3Async() {
+        final var multipart = MultipartConfiguration.builder()
+                .thresholdInBytes(storingProperties.getMultipartThreshold().toBytes())
+                .minimumPartSizeInBytes(storingProperties.getMultipartPartSize().toBytes())
+                .build();
+
+        return S3AsyncClient.builder()
+                .region(Region.of(properties.getRegion()))
+                .multipartEnabled(true)
+                .multipartConfiguration(multipart)
+                .build();
+    }
 }
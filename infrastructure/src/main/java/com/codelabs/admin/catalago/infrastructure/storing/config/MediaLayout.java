@@ -0,0 +1,6 @@
+package com.codelabs.admin.catalago.infrastructure.storing.config;
+
+public enum MediaLayout {
+    PER_VIDEO,
+    CONTENT_ADDRESSED
+}
@@ -0,0 +1,52 @@
+package com.codelabs.admin.catalago.infrastructure.storing.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(StoringProperties.class)
+public class MediaStorageExecutorConfig {
+
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final StoringProperties properties;
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public ExecutorService mediaStorageExecutor() {
+        final var threads = properties.getUploadConcurrency();
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new ThreadFactoryBuilder().setNameFormat("media-storage-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // only feeds the request bodies of the async client from the input streams; it can't be the pool above, whose
+    // threads wait for these same transfers to finish
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "s3-async")
+    public ExecutorService s3AsyncBodyExecutor() {
+        return Executors.newFixedThreadPool(
+                properties.getUploadConcurrency(),
+                new ThreadFactoryBuilder().setNameFormat("s3-async-body-%d").setDaemon(true).build()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.codelabs.admin.catalago.infrastructure.storing.config;
+
+public enum StorageClient {
+    S3,
+    S3_ASYNC,
+    FILESYSTEM
+}
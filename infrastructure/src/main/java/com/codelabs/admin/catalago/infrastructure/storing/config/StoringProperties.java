@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Getter
 @Setter
@@ -16,4 +19,22 @@ public class StoringProperties {
     private String filenamePattern;
 
     private String bucketName;
+
+    private String rootDirectory;
+
+    private StorageClient client = StorageClient.S3;
+
+    private MediaLayout layout = MediaLayout.PER_VIDEO;
+
+    private int uploadConcurrency = 8;
+
+    private DataSize multipartThreshold = DataSize.ofMegabytes(32);
+
+    private DataSize multipartPartSize = DataSize.ofMegabytes(16);
+
+    private int multipartConcurrency = 4;
+
+    private int multipartBufferedParts = 8;
+
+    private Duration presignedUrlTtl = Duration.ofMinutes(15);
 }
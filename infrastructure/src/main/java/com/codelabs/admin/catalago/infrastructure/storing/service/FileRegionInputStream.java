@@ -0,0 +1,85 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Streams a region of a file straight from its {@link FileChannel} using positional reads.
+ * <p>
+ * {@link #transferTo(OutputStream)} hands the region to {@link FileChannel#transferTo}, which lets the
+ * kernel copy the bytes when the target is backed by a file or socket channel.
+ */
+final class FileRegionInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    FileRegionInputStream(final FileChannel channel, final long position, final long length) {
+        this.channel = channel;
+        this.position = position;
+        this.end = position + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        final var remaining = this.end - this.position;
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        final var read = this.channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), this.position);
+        if (read > 0) {
+            this.position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) {
+        final var skipped = Math.max(0, Math.min(n, this.end - this.position));
+        this.position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, this.end - this.position);
+    }
+
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        final var target = Channels.newChannel(out);
+        final var start = this.position;
+
+        while (this.position < this.end) {
+            final var transferred = this.channel.transferTo(this.position, this.end - this.position, target);
+            if (transferred <= 0) {
+                // transferTo returns 0 past the end of the file, so a truncated file would never finish
+                throw new EOFException("File ended at %d before the region end %d".formatted(this.position, this.end));
+            }
+            this.position += transferred;
+        }
+        return this.position - start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
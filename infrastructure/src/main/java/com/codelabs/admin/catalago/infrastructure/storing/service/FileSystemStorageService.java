@@ -0,0 +1,253 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
+import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "filesystem")
+@EnableConfigurationProperties(StoringProperties.class)
+public class FileSystemStorageService implements StorageService {
+
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final String NAME = "name";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+
+    private final Path root;
+
+    public FileSystemStorageService(final StoringProperties properties) {
+        this.root = Path.of(properties.getRootDirectory()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void store(final String key, final Resource resource) {
+        final var target = resolve(key);
+        final var temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        final var metadata = metadataOf(target);
+        final var metadataTemp = metadata.resolveSibling(metadata.getFileName() + TEMP_SUFFIX);
+
+        try {
+            Files.createDirectories(target.getParent());
+
+            try (final var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 final var source = Channels.newChannel(resource.getInputStream())) {
+
+                long written = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, written, resource.getContentLength() - written)) > 0) {
+                    written += transferred;
+                }
+
+                if (written != resource.getContentLength()) {
+                    throw new IOException("Expected %d bytes but received %d".formatted(resource.getContentLength(), written));
+                }
+                channel.force(false);
+            }
+
+            writeMetadata(metadataTemp, resource);
+            // readers only ever see a complete file, and a failed store leaves the previous file and sidecar alone
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(metadataTemp, metadata, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            deleteQuietly(temp);
+            deleteQuietly(metadataTemp);
+            log.error("error on store file [key:%s]".formatted(key), e);
+            throw new InternalErrorException("An error on store file was observed [key:%s]".formatted(key));
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String key, final ByteRange range) {
+        final var file = resolve(key);
+
+        final Properties metadata;
+        final FileChannel channel;
+        try {
+            metadata = readMetadata(file);
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            log.error("error on read file [key:%s]".formatted(key), e);
+            throw new InternalErrorException("An error on read file was observed [key:%s]".formatted(key));
+        }
+
+        try {
+            final var size = channel.size();
+            final var contentRange = contentRange(key, range, size);
+            final var first = contentRange == null ? 0 : contentRange.first();
+            final var length = contentRange == null ? size : contentRange.length();
+
+            return Optional.of(Resource.with(
+                    new FileRegionInputStream(channel, first, length),
+                    length,
+                    metadata.getProperty(CHECKSUM, ""),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME),
+                    contentRange));
+        } catch (final IOException | RuntimeException e) {
+            closeQuietly(channel);
+            if (e instanceof RangeNotSatisfiableException notSatisfiable) {
+                throw notSatisfiable;
+            }
+            log.error("error on read file [key:%s]".formatted(key), e);
+            throw new InternalErrorException("An error on read file was observed [key:%s]".formatted(key));
+        }
+    }
+
+    @Override
+    public Optional<StoredMedia> head(final String key) {
+        final var file = resolve(key);
+
+        try {
+            final var metadata = readMetadata(file);
+            return Optional.of(StoredMedia.with(key, metadata.getProperty(CHECKSUM, ""), metadata.getProperty(NAME),
+                    Files.size(file)));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            log.error("error on read file [key:%s]".formatted(key), e);
+            throw new InternalErrorException("An error on read file was observed [key:%s]".formatted(key));
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var base = resolve(prefix);
+        final var directory = Files.isDirectory(base) ? base : base.getParent();
+
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> this.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/"))
+                    .filter(key -> key.startsWith(prefix))
+                    .filter(key -> !key.endsWith(METADATA_SUFFIX) && !key.endsWith(TEMP_SUFFIX))
+                    .toList();
+        } catch (final IOException e) {
+            log.error("error on list files [prefix:%s]".formatted(prefix), e);
+            throw new InternalErrorException("An error on list files was observed [prefix:%s]".formatted(prefix));
+        }
+    }
+
+    @Override
+    public MediaCleanupReport deleteAll(final List<String> keys) {
+        final var deleted = new ArrayList<String>();
+        final var failed = new ArrayList<String>();
+
+        for (final var key : keys) {
+            try {
+                final var file = resolve(key);
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(metadataOf(file));
+                deleted.add(key);
+            } catch (final IOException | RuntimeException e) {
+                log.error("error on delete file [key:%s]".formatted(key), e);
+                failed.add(key);
+            }
+        }
+
+        log.info("Files deleted {} {}", kv("deleted", deleted.size()), kv("failed", failed.size()));
+        return MediaCleanupReport.with(deleted, failed);
+    }
+
+    private Path resolve(final String key) {
+        final var path = this.root.resolve(key).normalize();
+        if (!path.startsWith(this.root)) {
+            throw new InternalErrorException("Key %s resolves outside of the storage root".formatted(key));
+        }
+        return path;
+    }
+
+    private static ContentRange contentRange(final String key, final ByteRange range, final long size) {
+        if (range == null) {
+            return null;
+        }
+
+        final long first;
+        final long last;
+        if (range.isSuffix()) {
+            first = Math.max(0, size - range.last());
+            last = size - 1;
+        } else {
+            first = range.first();
+            last = range.last() == null ? size - 1 : Math.min(range.last(), size - 1);
+        }
+
+        if (size == 0 || first >= size) {
+            throw new RangeNotSatisfiableException("Range %s not satisfiable for %s".formatted(range, key), size);
+        }
+        return ContentRange.with(first, last, size);
+    }
+
+    private static Path metadataOf(final Path file) {
+        return file.resolveSibling(file.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static void writeMetadata(final Path metadataFile, final Resource resource) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(NAME, resource.getName());
+        metadata.setProperty(CHECKSUM, resource.getChecksum());
+        metadata.setProperty(CONTENT_TYPE, resource.getContentType());
+
+        try (final Writer writer = Files.newBufferedWriter(metadataFile, StandardCharsets.UTF_8)) {
+            metadata.store(writer, null);
+        }
+    }
+
+    private static Properties readMetadata(final Path file) throws IOException {
+        final var metadata = new Properties();
+        try (final Reader reader = Files.newBufferedReader(metadataOf(file), StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        }
+        return metadata;
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    private static void closeQuietly(final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
+import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Same blocking contract as {@link S3UploadService}, only the transport changes: the SDK moves the bytes on its
+ * event loop and the calling thread waits for the result.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "s3-async")
+@EnableConfigurationProperties(StoringProperties.class)
+public class S3AsyncUploadService implements StorageService {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final StoringProperties properties;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService bodyExecutor;
+
+    public S3AsyncUploadService(final S3AsyncClient s3AsyncClient, final StoringProperties properties,
+                                final S3Presigner s3Presigner,
+                                @Qualifier("s3AsyncBodyExecutor") final ExecutorService bodyExecutor) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.properties = properties;
+        this.s3Presigner = s3Presigner;
+        this.bodyExecutor = bodyExecutor;
+    }
+
+    @Override
+    public void store(final String key, final Resource resource) {
+        storeAsync(key, resource).join();
+    }
+
+    @Override
+    public Optional<Resource> get(final String key, final ByteRange range) {
+        try {
+            return getAsync(key, range).join();
+        } catch (final CompletionException e) {
+            if (unwrap(e) instanceof S3Exception s3 && s3.statusCode() == S3Objects.RANGE_NOT_SATISFIABLE) {
+                // the S3 error carries no object size, which the 416 has to answer with
+                throw new RangeNotSatisfiableException("Range %s not satisfiable for %s".formatted(S3Objects.range(range), key),
+                        head(key).map(StoredMedia::contentLength).orElse(0L));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<StoredMedia> head(final String key) {
+        final var headObjectRequest = HeadObjectRequest.builder()
+                .bucket(properties.getBucketName())
+                .key(key)
+                .checksumMode(ChecksumMode.ENABLED)
+                .build();
+
+        return this.s3AsyncClient.headObject(headObjectRequest)
+                .thenApply(response -> Optional.of(StoredMedia.with(
+                        key,
+                        S3Objects.checksum(response.checksumCRC32C(), response.metadata()),
+                        response.metadata().get(S3Objects.NAME),
+                        response.contentLength())))
+                .exceptionally(t -> {
+                    if (unwrap(t) instanceof NoSuchKeyException) {
+                        return Optional.empty();
+                    }
+                    throw new CompletionException(unwrap(t));
+                })
+                .join();
+    }
+
+    @Override
+    public PresignedUrl presignUpload(final String key, final MediaUpload upload, final Duration ttl) {
+        return S3Objects.presignUpload(s3Presigner, properties.getBucketName(), key, upload, ttl);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(final String key, final Duration ttl) {
+        return S3Objects.presignDownload(s3Presigner, properties.getBucketName(), key, ttl);
+    }
+
+    @Override
+    public void move(final String source, final String target) {
+        this.s3AsyncClient.copyObject(S3Objects.copyRequest(properties.getBucketName(), source, target))
+                .thenCompose(copied -> this.s3AsyncClient.deleteObject(S3Objects.deleteRequest(properties.getBucketName(), source)))
+                .join();
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return listAsync(prefix).join();
+    }
+
+    @Override
+    public MediaCleanupReport deleteAll(final List<String> keys) {
+        return deleteAllAsync(keys).join();
+    }
+
+    private CompletableFuture<Void> storeAsync(final String key, final Resource resource) {
+        final var putObjectRequest = PutObjectRequest.builder()
+                .bucket(properties.getBucketName())
+                .key(key)
+                .contentType(resource.getContentType())
+                .contentLength(resource.getContentLength())
+                .metadata(S3Objects.metadata(resource));
+
+        // the multipart client computes the part checksums itself, a whole object value is only accepted on single PUTs
+        if (resource.getContentLength() < properties.getMultipartThreshold().toBytes()) {
+            putObjectRequest.checksumCRC32C(resource.getChecksum());
+        } else {
+            putObjectRequest.checksumAlgorithm(ChecksumAlgorithm.CRC32C);
+        }
+
+        final var requestBody = AsyncRequestBody.fromInputStream(resource.getInputStream(),
+                resource.getContentLength(), this.bodyExecutor);
+
+        return this.s3AsyncClient.putObject(putObjectRequest.build(), requestBody)
+                .thenAccept(response -> log.debug("object stored {}", key));
+    }
+
+    private CompletableFuture<Optional<Resource>> getAsync(final String key, final ByteRange range) {
+        final var getObjectRequest = GetObjectRequest.builder()
+                .bucket(properties.getBucketName())
+                .key(key)
+                .range(S3Objects.range(range))
+                .checksumMode(ChecksumMode.ENABLED)
+                .build();
+
+        return this.s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBlockingInputStream())
+                .thenApply(responseStream -> {
+                    final var response = responseStream.response();
+                    return Optional.of(Resource.with(
+                            responseStream,
+                            response.contentLength(),
+                            S3Objects.checksum(response.checksumCRC32C(), response.metadata()),
+                            response.contentType(),
+                            response.metadata().get(S3Objects.NAME),
+                            S3Objects.contentRange(response.contentRange())));
+                })
+                .exceptionally(t -> {
+                    if (unwrap(t) instanceof NoSuchKeyException) {
+                        return Optional.empty();
+                    }
+                    throw new CompletionException(unwrap(t));
+                });
+    }
+
+    private CompletableFuture<List<String>> listAsync(final String prefix) {
+        final var listRequest = ListObjectsV2Request.builder()
+                .bucket(properties.getBucketName())
+                .prefix(prefix)
+                .build();
+
+        final var keys = new ConcurrentLinkedQueue<String>();
+        return this.s3AsyncClient.listObjectsV2Paginator(listRequest).contents()
+                .subscribe(object -> keys.add(object.key()))
+                .thenApply(done -> List.copyOf(keys));
+    }
+
+    private CompletableFuture<MediaCleanupReport> deleteAllAsync(final List<String> keys) {
+        final var batches = Lists.partition(keys, S3Objects.MAX_DELETE_KEYS).stream()
+                .map(this::deleteBatch)
+                .toList();
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(done -> batches.stream()
+                        .map(CompletableFuture::join)
+                        .reduce(MediaCleanupReport.empty(), MediaCleanupReport::merge));
+    }
+
+    private CompletableFuture<MediaCleanupReport> deleteBatch(final List<String> keys) {
+        return this.s3AsyncClient.deleteObjects(S3Objects.deleteRequest(properties.getBucketName(), keys))
+                .thenApply(response -> S3Objects.report(keys, response))
+                .exceptionally(t -> {
+                    log.error("error on delete objects batch [size:%d]".formatted(keys.size()), unwrap(t));
+                    return MediaCleanupReport.with(List.of(), keys);
+                });
+    }
+
+    private static Throwable unwrap(final Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+}
@@ -0,0 +1,213 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
+import com.codelabs.admin.catalago.common.utils.HashingUtils;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PARTS = 10_000;
+
+    private final S3Client s3Client;
+    private final StoringProperties properties;
+    private final ExecutorService partExecutor;
+    private final Semaphore bufferedParts;
+
+    public S3MultipartUploader(final S3Client s3Client, final StoringProperties properties) {
+        this.s3Client = s3Client;
+        this.properties = properties;
+
+        // shared by every upload of the node, a part only reaches the pool holding one of its permits, so the
+        // queue never grows past them and the heap is bounded to multipart-buffered-parts * part size
+        final var permits = properties.getMultipartBufferedParts();
+        this.bufferedParts = new Semaphore(permits, true);
+        this.partExecutor = new ThreadPoolExecutor(
+                permits,
+                permits,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(permits),
+                new ThreadFactoryBuilder().setNameFormat("s3-multipart-%d").setDaemon(true).build()
+        );
+    }
+
+    public boolean accepts(final Resource resource) {
+        return resource.getContentLength() >= properties.getMultipartThreshold().toBytes();
+    }
+
+    public void upload(final String key, final Resource resource) {
+        final var uploadId = this.s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(properties.getBucketName())
+                        .key(key)
+                        .contentType(resource.getContentType())
+                        .metadata(S3Objects.metadata(resource))
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32C)
+                        .checksumType(ChecksumType.FULL_OBJECT)
+                        .build())
+                .uploadId();
+
+        log.info("Starting multipart upload {} {}", kv("key", key), kv("uploadId", uploadId));
+
+        try {
+            final var parts = uploadParts(key, uploadId, resource);
+
+            this.s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(properties.getBucketName())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .checksumCRC32C(resource.getChecksum())
+                    .checksumType(ChecksumType.FULL_OBJECT)
+                    .mpuObjectSize(resource.getContentLength())
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+
+            log.info("Multipart upload completed {} {}", kv("key", key), kv("parts", parts.size()));
+        } catch (final Throwable t) {
+            log.error("Multipart upload failed, aborting [key:%s, uploadId:%s]".formatted(key, uploadId), t);
+            abort(key, uploadId);
+
+            if (t instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new InternalErrorException("An error on multipart upload was observed [key:%s]".formatted(key));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.partExecutor.shutdownNow();
+    }
+
+    private List<CompletedPart> uploadParts(final String key, final String uploadId, final Resource resource)
+            throws Exception {
+        final var partSize = partSize(resource.getContentLength());
+        final var inFlight = new Semaphore(properties.getMultipartConcurrency());
+        final var failure = new AtomicReference<Throwable>();
+        final var futures = new ArrayList<FutureTask<CompletedPart>>();
+
+        try (final InputStream content = resource.getInputStream()) {
+            int partNumber = 1;
+
+            while (failure.get() == null) {
+                // the permits are taken before reading, the upload's own first so a single file can't hold all
+                // the node's buffers
+                inFlight.acquire();
+                try {
+                    this.bufferedParts.acquire();
+                } catch (final InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+
+                final byte[] buffer;
+                try {
+                    buffer = content.readNBytes(partSize);
+                } catch (final Exception e) {
+                    release(inFlight);
+                    throw e;
+                }
+
+                if (buffer.length == 0) {
+                    release(inFlight);
+                    break;
+                }
+
+                final var number = partNumber++;
+                // done() also runs for a part cancelled before it started, so its permits are never lost
+                final var part = new FutureTask<CompletedPart>(() -> {
+                    try {
+                        return uploadPart(key, uploadId, number, buffer);
+                    } catch (final Throwable t) {
+                        failure.compareAndSet(null, t);
+                        throw t;
+                    }
+                }) {
+                    @Override
+                    protected void done() {
+                        release(inFlight);
+                    }
+                };
+                futures.add(part);
+                this.partExecutor.execute(part);
+
+                if (buffer.length < partSize) {
+                    break;
+                }
+            }
+
+            final var parts = new ArrayList<CompletedPart>(futures.size());
+            for (final var future : futures) {
+                parts.add(future.get());
+            }
+            return parts;
+        } catch (final Exception e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private void release(final Semaphore inFlight) {
+        this.bufferedParts.release();
+        inFlight.release();
+    }
+
+    private CompletedPart uploadPart(final String key, final String uploadId, final int partNumber, final byte[] content) {
+        final var checksum = HashingUtils.checksum(content);
+
+        final var response = this.s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(properties.getBucketName())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) content.length)
+                        .checksumCRC32C(checksum)
+                        .build(),
+                RequestBody.fromBytes(content));
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .checksumCRC32C(response.checksumCRC32C())
+                .build();
+    }
+
+    private void abort(final String key, final String uploadId) {
+        try {
+            this.s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(properties.getBucketName())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (final Throwable t) {
+            log.error("error on abort multipart upload [key:%s, uploadId:%s]".formatted(key, uploadId), t);
+        }
+    }
+
+    private int partSize(final long contentLength) {
+        final var configured = Math.max(properties.getMultipartPartSize().toBytes(), MIN_PART_SIZE);
+        final var required = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+
+        return Math.toIntExact(Math.max(configured, required));
+    }
+}
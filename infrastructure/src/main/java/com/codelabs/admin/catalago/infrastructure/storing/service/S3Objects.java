@@ -0,0 +1,162 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class S3Objects {
+
+    static final String NAME = "name";
+    static final String CHECKSUM = "checksum";
+    static final int RANGE_NOT_SATISFIABLE = 416;
+    static final int MAX_DELETE_KEYS = 1000;
+
+    private S3Objects() {
+    }
+
+    static Map<String, String> metadata(final Resource resource) {
+        return Map.of(NAME, resource.getName(), CHECKSUM, resource.getChecksum());
+    }
+
+    // ranged and multipart responses do not always carry the whole object CRC32C, the metadata copy does
+    static String checksum(final String checksumCRC32C, final Map<String, String> metadata) {
+        if (checksumCRC32C != null && !checksumCRC32C.contains("-")) {
+            return checksumCRC32C;
+        }
+        return metadata.getOrDefault(CHECKSUM, "");
+    }
+
+    static String range(final ByteRange range) {
+        if (range == null) {
+            return null;
+        }
+        if (range.isSuffix()) {
+            return "bytes=-%d".formatted(range.last());
+        }
+        return "bytes=%d-%s".formatted(range.first(), range.last() == null ? "" : range.last());
+    }
+
+    // S3 answers ranged reads with "bytes first-last/total"
+    static ContentRange contentRange(final String header) {
+        if (header == null || !header.startsWith("bytes ")) {
+            return null;
+        }
+
+        final var value = header.substring("bytes ".length());
+        final var slash = value.indexOf('/');
+        final var dash = value.indexOf('-');
+
+        return ContentRange.with(
+                Long.parseLong(value.substring(0, dash)),
+                Long.parseLong(value.substring(dash + 1, slash)),
+                Long.parseLong(value.substring(slash + 1))
+        );
+    }
+
+    // the copy keeps the metadata of the source, the CRC32C is asked again so the moved object is still verifiable
+    static CopyObjectRequest copyRequest(final String bucket, final String source, final String target) {
+        return CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(source)
+                .destinationBucket(bucket)
+                .destinationKey(target)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32C)
+                .build();
+    }
+
+    static DeleteObjectRequest deleteRequest(final String bucket, final String key) {
+        return DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+    }
+
+    // quiet mode makes S3 answer only with the keys it could not delete
+    static DeleteObjectsRequest deleteRequest(final String bucket, final List<String> keys) {
+        return DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .build();
+    }
+
+    static MediaCleanupReport report(final List<String> keys, final DeleteObjectsResponse response) {
+        final Set<String> failed = response.errors().stream()
+                .map(S3Error::key)
+                .collect(Collectors.toSet());
+
+        return MediaCleanupReport.with(
+                keys.stream().filter(key -> !failed.contains(key)).toList(),
+                keys.stream().filter(failed::contains).toList()
+        );
+    }
+
+    // the checksum and metadata are signed, the client has to send them as headers and S3 verifies the body against them
+    static PresignedUrl presignUpload(final S3Presigner presigner, final String bucket, final String key,
+                                      final MediaUpload upload, final Duration ttl) {
+        final var putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(upload.contentType())
+                .contentLength(upload.contentLength())
+                .checksumCRC32C(upload.checksum())
+                .metadata(Map.of(NAME, upload.name(), CHECKSUM, upload.checksum()))
+                .build();
+
+        return presignedUrl(presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putObjectRequest)
+                .build()));
+    }
+
+    static PresignedUrl presignDownload(final S3Presigner presigner, final String bucket, final String key,
+                                        final Duration ttl) {
+        final var getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return presignedUrl(presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(getObjectRequest)
+                .build()));
+    }
+
+    private static PresignedUrl presignedUrl(final PresignedRequest presigned) {
+        final Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+                .filter(header -> !header.getKey().equalsIgnoreCase("host"))
+                .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue())));
+
+        return PresignedUrl.with(
+                presigned.url().toString(),
+                presigned.httpRequest().method().name(),
+                presigned.expiration(),
+                headers
+        );
+    }
+}
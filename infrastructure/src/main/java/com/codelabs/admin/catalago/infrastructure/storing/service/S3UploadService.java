@@ -1,36 +1,58 @@
 package com.codelabs.admin.catalago.infrastructure.storing.service;
 
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
 import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
 import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "client", havingValue = "s3", matchIfMissing = true)
 @EnableConfigurationProperties(StoringProperties.class)
 public class S3UploadService implements StorageService {
 
     private final S3Client s3Client;
     private final StoringProperties properties;
+    private final S3MultipartUploader multipartUploader;
+    private final ExecutorService mediaStorageExecutor;
+    private final S3Presigner s3Presigner;
 
     @Override
     public void store(final String key, final Resource resource) {
+        if (this.multipartUploader.accepts(resource)) {
+            this.multipartUploader.upload(key, resource);
+            return;
+        }
+
         final var putObjectRequest = PutObjectRequest.builder()
                 .checksumCRC32C(resource.getChecksum())
                 .bucket(properties.getBucketName())
                 .key(key)
                 .contentType(resource.getContentType())
                 .contentLength(resource.getContentLength())
-                .metadata(Map.of("name", resource.getName()))
+                .metadata(S3Objects.metadata(resource))
                 .build();
 
         final var requestBody = RequestBody.fromInputStream(resource.getInputStream(),
@@ -40,25 +62,73 @@ public class S3UploadService implements StorageService {
     }
 
     @Override
-    public Optional<Resource> get(String key) {
+    public Optional<Resource> get(final String key, final ByteRange range) {
 
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(properties.getBucketName())
                 .key(key)
+                .range(S3Objects.range(range))
                 .checksumMode(ChecksumMode.ENABLED)
                 .build();
 
-        return Optional.ofNullable(s3Client.getObject(getObjectRequest))
-                .map(responseStream -> {
-                    GetObjectResponse response = responseStream.response();
-                    String name = response.metadata().get("name");
-                    return Resource.with(
-                            responseStream,
-                            response.contentLength(),
-                            response.checksumCRC32C(),
-                            response.contentType(),
-                            name);
-                });
+        try {
+            return Optional.ofNullable(s3Client.getObject(getObjectRequest))
+                    .map(responseStream -> {
+                        GetObjectResponse response = responseStream.response();
+                        String name = response.metadata().get(S3Objects.NAME);
+                        return Resource.with(
+                                responseStream,
+                                response.contentLength(),
+                                S3Objects.checksum(response.checksumCRC32C(), response.metadata()),
+                                response.contentType(),
+                                name,
+                                S3Objects.contentRange(response.contentRange()));
+                    });
+        } catch (final S3Exception e) {
+            if (e.statusCode() == S3Objects.RANGE_NOT_SATISFIABLE) {
+                // the S3 error carries no object size, which the 416 has to answer with
+                throw new RangeNotSatisfiableException("Range %s not satisfiable for %s".formatted(getObjectRequest.range(), key),
+                        head(key).map(StoredMedia::contentLength).orElse(0L));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<StoredMedia> head(final String key) {
+        final var headObjectRequest = HeadObjectRequest.builder()
+                .bucket(properties.getBucketName())
+                .key(key)
+                .checksumMode(ChecksumMode.ENABLED)
+                .build();
+
+        try {
+            final var response = s3Client.headObject(headObjectRequest);
+            return Optional.of(StoredMedia.with(
+                    key,
+                    S3Objects.checksum(response.checksumCRC32C(), response.metadata()),
+                    response.metadata().get(S3Objects.NAME),
+                    response.contentLength()));
+        } catch (final NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public PresignedUrl presignUpload(final String key, final MediaUpload upload, final Duration ttl) {
+        return S3Objects.presignUpload(s3Presigner, properties.getBucketName(), key, upload, ttl);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(final String key, final Duration ttl) {
+        return S3Objects.presignDownload(s3Presigner, properties.getBucketName(), key, ttl);
+    }
+
+    @Override
+    public void move(final String source, final String target) {
+        // a presigned PUT is capped at 5GB, which a single CopyObject still handles
+        this.s3Client.copyObject(S3Objects.copyRequest(properties.getBucketName(), source, target));
+        this.s3Client.deleteObject(S3Objects.deleteRequest(properties.getBucketName(), source));
     }
 
     @Override
@@ -68,23 +138,30 @@ public class S3UploadService implements StorageService {
                 .prefix(prefix)
                 .build();
 
-        ListObjectsV2Response response = s3Client.listObjectsV2(listRequest);
-
-        return response.contents().stream()
+        // the paginator follows the continuation tokens, a single page stops at 1000 keys
+        return s3Client.listObjectsV2Paginator(listRequest).contents().stream()
                 .map(S3Object::key)
                 .collect(Collectors.toList());
-
     }
 
     @Override
-    public void deleteAll(List<String> keys) {
-        final var deleteRequests = keys.stream()
-                .map(key -> DeleteObjectRequest.builder()
-                        .bucket(properties.getBucketName())
-                        .key(key)
-                        .build())
+    public MediaCleanupReport deleteAll(List<String> keys) {
+        final var batches = Lists.partition(keys, S3Objects.MAX_DELETE_KEYS).stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> deleteBatch(batch), this.mediaStorageExecutor))
                 .toList();
 
-        deleteRequests.forEach(s3Client::deleteObject);
+        return batches.stream()
+                .map(CompletableFuture::join)
+                .reduce(MediaCleanupReport.empty(), MediaCleanupReport::merge);
+    }
+
+    private MediaCleanupReport deleteBatch(final List<String> keys) {
+        try {
+            final var response = s3Client.deleteObjects(S3Objects.deleteRequest(properties.getBucketName(), keys));
+            return S3Objects.report(keys, response);
+        } catch (final Throwable t) {
+            log.error("error on delete objects batch [size:%d]".formatted(keys.size()), t);
+            return MediaCleanupReport.with(List.of(), keys);
+        }
     }
 }
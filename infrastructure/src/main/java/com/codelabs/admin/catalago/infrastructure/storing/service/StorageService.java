@@ -1,7 +1,14 @@
 package com.codelabs.admin.catalago.infrastructure.storing.service;
 
+import com.codelabs.admin.catalago.common.exceptions.NotSupportedException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
 import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,9 +16,28 @@ public interface StorageService {
 
     void store(final String key, final Resource resource);
 
-    Optional<Resource> get(String id);
+    default Optional<Resource> get(String id) {
+        return get(id, null);
+    }
+
+    Optional<Resource> get(String id, ByteRange range);
+
+    Optional<StoredMedia> head(String key);
 
     List<String> list(String prefix);
 
-    void deleteAll(final List<String> ids);
+    MediaCleanupReport deleteAll(final List<String> ids);
+
+    // only the completion of a presigned upload moves a media, so it is bound to the presigned urls support
+    default void move(final String source, final String target) {
+        throw new NotSupportedException("Moving medias is not supported by %s".formatted(getClass().getSimpleName()));
+    }
+
+    default PresignedUrl presignUpload(final String key, final MediaUpload upload, final Duration ttl) {
+        throw new NotSupportedException("Presigned urls are not supported by %s".formatted(getClass().getSimpleName()));
+    }
+
+    default PresignedUrl presignDownload(final String key, final Duration ttl) {
+        throw new NotSupportedException("Presigned urls are not supported by %s".formatted(getClass().getSimpleName()));
+    }
 }
@@ -1,11 +1,16 @@
 package com.codelabs.admin.catalago.infrastructure.web.handler;
 
 import br.com.fluentvalidator.context.ValidationResult;
+import com.codelabs.admin.catalago.common.exceptions.ChecksumMismatchException;
+import com.codelabs.admin.catalago.common.exceptions.InvalidCursorException;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.exceptions.NotSupportedException;
 import com.codelabs.admin.catalago.common.exceptions.PhysicalValidationException;
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
 import com.codelabs.admin.catalago.infrastructure.web.handler.errorcustom.ErrorApiFieldResponse;
 import com.codelabs.admin.catalago.infrastructure.web.handler.errorcustom.ErrorApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -81,6 +86,19 @@ public class RestControllerExceptionHandler {
         );
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Object> handleInvalidCursorException(final InvalidCursorException ex) {
+        log.error("Invalid cursor. {}", ex.getMessage(), ex);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                ErrorApiResponse
+                        .builder()
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(ex.getMessage())
+                        .timestamp(Instant.now())
+                        .build()
+        );
+    }
+
     @ExceptionHandler
     public ResponseEntity<Object> handleNotFoundException(final NotFoundException ex) {
         log.error("Resource not found.", ex);
@@ -94,6 +112,46 @@ public class RestControllerExceptionHandler {
         );
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Object> handleRangeNotSatisfiableException(final RangeNotSatisfiableException ex) {
+        log.error("Range not satisfiable.", ex);
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(ex.getTotalLength()))
+                .body(ErrorApiResponse
+                        .builder()
+                        .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value())
+                        .message(ex.getMessage())
+                        .timestamp(Instant.now())
+                        .build()
+                );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleChecksumMismatchException(final ChecksumMismatchException ex) {
+        log.error("Checksum mismatch.", ex);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(
+                ErrorApiResponse
+                        .builder()
+                        .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                        .message(ex.getMessage())
+                        .timestamp(Instant.now())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Object> handleNotSupportedException(final NotSupportedException ex) {
+        log.error("Operation not supported.", ex);
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(
+                ErrorApiResponse
+                        .builder()
+                        .status(HttpStatus.NOT_IMPLEMENTED.value())
+                        .message(ex.getMessage())
+                        .timestamp(Instant.now())
+                        .build()
+        );
+    }
+
     private Collection<ErrorApiFieldResponse> transformResult(ValidationResult validationResult) {
         return Optional.ofNullable(validationResult.getErrors())
                 .orElse(Collections.emptyList())
@@ -106,6 +164,19 @@ public class RestControllerExceptionHandler {
                 .collect(Collectors.toList());
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Object> handleNotSupportedException(final NotSupportedException ex) {
+        log.error("Operation not supported.", ex);
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(
+                ErrorApiResponse
+                        .builder()
+                        .status(HttpStatus.NOT_IMPLEMENTED.value())
+                        .message(ex.getMessage())
+                        .timestamp(Instant.now())
+                        .build()
+        );
+    }
+
     private Collection<ErrorApiFieldResponse> transformResult(List<ParameterValidationResult> validationResults) {
         return Optional.ofNullable(validationResults)
                 .orElse(Collections.emptyList())
@@ -0,0 +1,31 @@
+package com.codelabs.admin.catalago.infrastructure.web.in;
+
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Checks the request validators against the last modification of an aggregate. The ETag and Last-Modified
+     * headers are written either way, so a 200 carries them too.
+     */
+    public static boolean notModified(final WebRequest request, final Instant lastModified) {
+        return request.checkNotModified(ETagUtils.strong(lastModified), lastModified.toEpochMilli());
+    }
+
+    /**
+     * Same check as {@link #notModified} without touching the response, so a miss still lets the caller answer
+     * with the validators of the aggregate it ends up returning.
+     */
+    public static boolean isCurrent(final WebRequest request, final Instant lastModified) {
+        return request instanceof ServletWebRequest servletRequest
+                && new ServletWebRequest(servletRequest.getRequest())
+                .checkNotModified(ETagUtils.strong(lastModified), lastModified.toEpochMilli());
+    }
+}
@@ -1,20 +1,23 @@
 package com.codelabs.admin.catalago.infrastructure.web.in.castmember;
 
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.infrastructure.web.in.castmember.dto.CastMemberDetailsResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.castmember.dto.CastMemberListResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.castmember.dto.CastMemberRequest;
 import com.codelabs.admin.catalago.infrastructure.web.in.castmember.dto.CastMemberResponse;
+import com.codelabs.admin.catalago.infrastructure.web.validation.AggregateId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.hibernate.validator.constraints.UUID;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -43,18 +46,21 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") @Validated @Pattern(regexp = CountMode.PATTERN) final String count
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "Cast member was not modified since the validators received"),
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberDetailsResponse getById(@PathVariable @Validated @UUID final String id);
+    CastMemberDetailsResponse getById(@PathVariable @Validated @AggregateId final String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -69,7 +75,7 @@ public interface CastMemberAPI {
             @ApiResponse(responseCode = "400", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<CastMemberResponse> updateById(@PathVariable @Validated @UUID final String id, @RequestBody final CastMemberRequest request);
+    ResponseEntity<CastMemberResponse> updateById(@PathVariable @Validated @AggregateId final String id, @RequestBody final CastMemberRequest request);
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -79,5 +85,5 @@ public interface CastMemberAPI {
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    void deleteById(@PathVariable @Validated @UUID final String id);
+    void deleteById(@PathVariable @Validated @AggregateId final String id);
 }
\ No newline at end of file
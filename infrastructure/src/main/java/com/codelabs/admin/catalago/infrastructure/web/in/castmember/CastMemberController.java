@@ -3,6 +3,7 @@ package com.codelabs.admin.catalago.infrastructure.web.in.castmember;
 import com.codelabs.admin.catalago.application.ports.in.CastMemberUseCase;
 import com.codelabs.admin.catalago.common.exceptions.PhysicalValidationException;
 import com.codelabs.admin.catalago.domain.castmember.CastMember;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import com.codelabs.admin.catalago.infrastructure.web.in.castmember.dto.CastMemberDetailsResponse;
@@ -15,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
 
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.isCurrent;
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.notModified;
 import static net.logstash.logback.marker.Markers.append;
 
 @RestController
@@ -52,15 +58,18 @@ public class CastMemberController implements CastMemberAPI {
 
     @Override
     public Pagination<CastMemberListResponse> listCastMembers(final String search, final int page, final int perPage,
-                                                              final String sort, final String direction) {
+                                                              final String sort, final String direction, final String cursor,
+                                                              final String count) {
         log.info(append("search", search)
                         .and(append("page", page)
                                 .and(append("perPage", perPage)
                                         .and(append("sort", sort)
-                                                .and(append("dir", direction))))),
+                                                .and(append("dir", direction)
+                                                        .and(append("cursor", cursor)
+                                                                .and(append("count", count))))))),
                 "Receiving request to list cast members by parameters");
 
-        final Pagination<CastMember> castMemberPagination = castMemberUseCase.listCastMembers(new SearchQuery(page, perPage, search, sort, direction));
+        final Pagination<CastMember> castMemberPagination = castMemberUseCase.listCastMembers(new SearchQuery(page, perPage, search, sort, direction, cursor, CountMode.of(count)));
         log.info(append(CAST_MEMBER_FIELD, castMemberPagination), "cast members found");
 
         final Pagination<CastMemberListResponse> listResponse = castMemberPagination.map(CastMemberListResponse::from);
@@ -69,10 +78,21 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public CastMemberDetailsResponse getById(final String id) {
+    public CastMemberDetailsResponse getById(final String id, final WebRequest request) {
         log.info("Receiving cast members search request {}", id);
 
+        final Optional<Instant> lastModified = castMemberUseCase.getLastModified(id);
+        if (lastModified.isPresent() && isCurrent(request, lastModified.get()) && notModified(request, lastModified.get())) {
+            log.info("Cast member not modified {}", id);
+            return null;
+        }
+
         final CastMember castMember = castMemberUseCase.getById(id);
+        if (notModified(request, castMember.getUpdatedAt())) {
+            log.info("Cast member not modified {}", id);
+            return null;
+        }
+
         log.info(append(CAST_MEMBER_FIELD, castMember), "Cast member found");
 
         final CastMemberDetailsResponse detailsResponse = mapper.toResponse(castMember, CastMemberDetailsResponse::from);
@@ -1,20 +1,23 @@
 package com.codelabs.admin.catalago.infrastructure.web.in.category;
 
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryDetailsResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryListResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryRequest;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryResponse;
+import com.codelabs.admin.catalago.infrastructure.web.validation.AggregateId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.hibernate.validator.constraints.UUID;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -42,7 +45,7 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<CategoryResponse> updateById(@PathVariable(name = "id") @Validated @UUID  final String id,
+    ResponseEntity<CategoryResponse> updateById(@PathVariable(name = "id") @Validated @AggregateId  final String id,
                                                 @RequestBody final CategoryRequest request);
 
     @GetMapping(value = "{id}",
@@ -51,11 +54,12 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category was not modified since the validators received"),
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<CategoryDetailsResponse> getById(@PathVariable(name = "id") @Validated @UUID  final String id);
+    ResponseEntity<CategoryDetailsResponse> getById(@PathVariable(name = "id") @Validated @AggregateId  final String id, WebRequest request);
 
     @GetMapping
     @Operation(summary = "List all categories paginated")
@@ -68,7 +72,9 @@ public interface CategoryAPI {
                                                     @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
                                                     @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
                                                     @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-                                                    @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+                                                    @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+                                                    @RequestParam(name = "cursor", required = false) final String cursor,
+                                                    @RequestParam(name = "count", required = false, defaultValue = "exact") @Validated @Pattern(regexp = CountMode.PATTERN) final String count);
 
     @DeleteMapping(value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -80,6 +86,6 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    void deleteById(@PathVariable(name = "id") @Validated @UUID final String id);
+    void deleteById(@PathVariable(name = "id") @Validated @AggregateId final String id);
 
 }
@@ -4,6 +4,7 @@ import com.codelabs.admin.catalago.application.ports.in.CategoryUseCase;
 import com.codelabs.admin.catalago.common.exceptions.PhysicalValidationException;
 import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryDetailsResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.category.dto.CategoryListResponse;
@@ -15,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
 
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.isCurrent;
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.notModified;
 import static net.logstash.logback.marker.Markers.append;
 
 @RestController
@@ -69,10 +75,21 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public ResponseEntity<CategoryDetailsResponse> getById(final String id) {
+    public ResponseEntity<CategoryDetailsResponse> getById(final String id, final WebRequest request) {
         log.info("Receiving category search request {}", id);
 
+        final Optional<Instant> lastModified = categoryUseCase.getLastModified(id);
+        if (lastModified.isPresent() && isCurrent(request, lastModified.get()) && notModified(request, lastModified.get())) {
+            log.info("Category not modified {}", id);
+            return null;
+        }
+
         final Category category = categoryUseCase.getById(id);
+        if (notModified(request, category.getUpdatedAt())) {
+            log.info("Category not modified {}", id);
+            return null;
+        }
+
         log.info(append(CATEGORY_FIELD, category), "Category found");
 
         final CategoryDetailsResponse detailsResponse = mapper.toResponse(category, CategoryDetailsResponse::from);
@@ -83,15 +100,18 @@ public class CategoryController implements CategoryAPI {
 
     @Override
     public Pagination<CategoryListResponse> listCategories(final String search, final int page, final int perPage,
-                                                           final String sort, final String direction) {
+                                                           final String sort, final String direction, final String cursor,
+                                                           final String count) {
         log.info(append("search", search)
                         .and(append("page", page)
                                 .and(append("perPage", perPage)
                                         .and(append("sort", sort)
-                                                .and(append("dir", direction))))),
+                                                .and(append("dir", direction)
+                                                        .and(append("cursor", cursor)
+                                                                .and(append("count", count))))))),
                 "Receiving request to list categories by parameters");
 
-        final Pagination<Category> categoryPagination = categoryUseCase.listCategories(new SearchQuery(page, perPage, search, sort, direction));
+        final Pagination<Category> categoryPagination = categoryUseCase.listCategories(new SearchQuery(page, perPage, search, sort, direction, cursor, CountMode.of(count)));
         log.info(append(CATEGORY_FIELD, categoryPagination), "categories found");
 
         final Pagination<CategoryListResponse> listResponse = categoryPagination.map(CategoryListResponse::from);
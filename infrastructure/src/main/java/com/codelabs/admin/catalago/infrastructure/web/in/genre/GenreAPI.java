@@ -1,20 +1,23 @@
 package com.codelabs.admin.catalago.infrastructure.web.in.genre;
 
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.infrastructure.web.in.genre.dto.GenreDetailsResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.genre.dto.GenreListResponse;
 import com.codelabs.admin.catalago.infrastructure.web.in.genre.dto.GenreRequest;
 import com.codelabs.admin.catalago.infrastructure.web.in.genre.dto.GenreResponse;
+import com.codelabs.admin.catalago.infrastructure.web.validation.AggregateId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.hibernate.validator.constraints.UUID;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -44,7 +47,9 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") @Validated @Pattern(regexp = CountMode.PATTERN) final String count
     );
 
     @GetMapping(
@@ -54,11 +59,12 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre was not modified since the validators received"),
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreDetailsResponse getById(@PathVariable(name = "id") @Validated @UUID final String id);
+    GenreDetailsResponse getById(@PathVariable(name = "id") @Validated @AggregateId final String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -73,7 +79,7 @@ public interface GenreAPI {
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<GenreResponse> updateById(@PathVariable(name = "id") @Validated @UUID final String id, @RequestBody final GenreRequest request);
+    ResponseEntity<GenreResponse> updateById(@PathVariable(name = "id") @Validated @AggregateId final String id, @RequestBody final GenreRequest request);
 
     @DeleteMapping(
             value = "{id}",
@@ -86,5 +92,5 @@ public interface GenreAPI {
             @ApiResponse(responseCode = "400", description = "Received ID format is invalid"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    void deleteById(@PathVariable(name = "id") @Validated @UUID final String id);
+    void deleteById(@PathVariable(name = "id") @Validated @AggregateId final String id);
 }
\ No newline at end of file
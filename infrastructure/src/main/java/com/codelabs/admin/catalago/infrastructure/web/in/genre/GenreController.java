@@ -3,6 +3,7 @@ package com.codelabs.admin.catalago.infrastructure.web.in.genre;
 import com.codelabs.admin.catalago.application.ports.in.GenreUseCase;
 import com.codelabs.admin.catalago.common.exceptions.PhysicalValidationException;
 import com.codelabs.admin.catalago.domain.genre.Genre;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import com.codelabs.admin.catalago.infrastructure.web.in.genre.dto.GenreDetailsResponse;
@@ -15,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
 
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.isCurrent;
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.notModified;
 import static net.logstash.logback.marker.Markers.append;
 
 @RestController
@@ -52,15 +58,18 @@ public class GenreController implements GenreAPI {
 
     @Override
     public Pagination<GenreListResponse> listGenres(final String search, final int page, final int perPage,
-                                                    final String sort, final String direction) {
+                                                    final String sort, final String direction, final String cursor,
+                                                    final String count) {
         log.info(append("search", search)
                         .and(append("page", page)
                                 .and(append("perPage", perPage)
                                         .and(append("sort", sort)
-                                                .and(append("dir", direction))))),
+                                                .and(append("dir", direction)
+                                                        .and(append("cursor", cursor)
+                                                                .and(append("count", count))))))),
                 "Receiving request to list genres by parameters");
 
-        final Pagination<Genre> genrePagination = genreUseCase.listGenres(new SearchQuery(page, perPage, search, sort, direction));
+        final Pagination<Genre> genrePagination = genreUseCase.listGenres(new SearchQuery(page, perPage, search, sort, direction, cursor, CountMode.of(count)));
         log.info(append(GENRE_FIELD, genrePagination), "genres found");
 
         final Pagination<GenreListResponse> listResponse = genrePagination.map(GenreListResponse::from);
@@ -70,10 +79,21 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public GenreDetailsResponse getById(final String id) {
+    public GenreDetailsResponse getById(final String id, final WebRequest request) {
         log.info("Receiving genre search request {}", id);
 
+        final Optional<Instant> lastModified = genreUseCase.getLastModified(id);
+        if (lastModified.isPresent() && isCurrent(request, lastModified.get()) && notModified(request, lastModified.get())) {
+            log.info("Genre not modified {}", id);
+            return null;
+        }
+
         final Genre genre = genreUseCase.getById(id);
+        if (notModified(request, genre.getUpdatedAt())) {
+            log.info("Genre not modified {}", id);
+            return null;
+        }
+
         log.info(append(GENRE_FIELD, genre), "Genre found");
 
         final GenreDetailsResponse detailsResponse = mapper.toResponse(genre, GenreDetailsResponse::from);
@@ -0,0 +1,121 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video;
+
+import com.codelabs.admin.catalago.common.exceptions.DomainException;
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public final class ByteRanges {
+
+    private static final String BYTES_UNIT = "bytes=";
+    private static final int MAX_RANGES = 16;
+    private static final String CRLF = "\r\n";
+
+    private ByteRanges() {
+    }
+
+    /**
+     * Parses a {@code Range} header. Anything that is not a valid byte range set is ignored,
+     * which makes the caller answer with the full representation as allowed by RFC 9110.
+     */
+    public static List<ByteRange> parse(final String header) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return List.of();
+        }
+
+        final var ranges = new ArrayList<ByteRange>();
+
+        try {
+            for (final var spec : header.substring(BYTES_UNIT.length()).split(",")) {
+                final var dash = spec.indexOf('-');
+                if (dash < 0) {
+                    return List.of();
+                }
+
+                final var first = spec.substring(0, dash).trim();
+                final var last = spec.substring(dash + 1).trim();
+
+                if (first.isEmpty()) {
+                    ranges.add(ByteRange.suffix(Long.parseLong(last)));
+                } else {
+                    ranges.add(ByteRange.of(Long.parseLong(first), last.isEmpty() ? null : Long.parseLong(last)));
+                }
+            }
+        } catch (final NumberFormatException | DomainException e) {
+            return List.of();
+        }
+
+        return ranges.size() > MAX_RANGES ? List.of() : ranges;
+    }
+
+    public static ContentRange contentRangeOf(final Resource resource) {
+        return resource.getContentRange()
+                .orElseGet(() -> ContentRange.with(0, resource.getContentLength() - 1, resource.getContentLength()));
+    }
+
+    public static String header(final ContentRange range) {
+        return "bytes %d-%d/%d".formatted(range.first(), range.last(), range.totalLength());
+    }
+
+    /**
+     * Rejects the whole set when one of its ranges starts past the end of the object, before anything is sent.
+     */
+    public static void requireSatisfiable(final List<ByteRange> ranges, final long totalLength) {
+        for (final var range : ranges) {
+            if (!range.isSatisfiable(totalLength)) {
+                throw new RangeNotSatisfiableException("Range %s not satisfiable for length %d"
+                        .formatted(range, totalLength), totalLength);
+            }
+        }
+    }
+
+    /**
+     * Builds a {@code multipart/byteranges} body out of the parts already opened, one per range.
+     */
+    public static InputStream multipart(final String boundary, final List<Resource> parts) {
+        final Enumeration<InputStream> streams = new Enumeration<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return index <= parts.size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (index > parts.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                final var current = index++;
+                if (current == parts.size()) {
+                    return ascii(CRLF + "--" + boundary + "--" + CRLF);
+                }
+
+                final var resource = parts.get(current);
+                final var partHeader = CRLF + "--" + boundary + CRLF
+                        + "Content-Type: " + resource.getContentType() + CRLF
+                        + "Content-Range: " + header(contentRangeOf(resource)) + CRLF
+                        + CRLF;
+
+                return new SequenceInputStream(ascii(partHeader), resource.getInputStream());
+            }
+        };
+
+        return new SequenceInputStream(streams);
+    }
+
+    private static InputStream ascii(final String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -1,18 +1,21 @@
 package com.codelabs.admin.catalago.infrastructure.web.in.video;
 
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoDetailsResponse;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoListResponse;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoRequest;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Set;
@@ -36,7 +39,9 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") @Validated @Pattern(regexp = CountMode.PATTERN) String count
     );
 
     @PostMapping(
@@ -79,14 +84,28 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody VideoRequest request);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create or update many videos without medias, the ones with an id are updated")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request processed, the result of each video is in the body"),
+            @ApiResponse(responseCode = "400", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkVideoResponse saveAll(@RequestBody BulkVideoRequest request);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video was not modified since the validators received"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    VideoDetailsResponse getById(@PathVariable(name = "id") String id);
+    VideoDetailsResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -118,12 +137,68 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested ranges of the media retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified since the ETag received"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     ResponseEntity<InputStreamResource> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            WebRequest request
     );
 
+
+    @PostMapping(
+            value = "{id}/medias/{type}/upload-url",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Issue a presigned url to upload a video media straight to the storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload url issued"),
+            @ApiResponse(responseCode = "400", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "501", description = "The storage client does not support presigned urls"),
+    })
+    PresignedUrlResponse presignUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody PresignMediaUploadRequest request
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Record a media uploaded through a presigned url on the video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media recorded on the video"),
+            @ApiResponse(responseCode = "400", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "404", description = "Video or uploaded media was not found"),
+            @ApiResponse(responseCode = "422", description = "Uploaded content does not match the checksum"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    UploadMediaResponse completeUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CompleteMediaUploadRequest request
+    );
+
+    @GetMapping(value = "{id}/medias/{type}/download-url", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Issue a presigned url to download a video media straight from the storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Download url issued"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    PresignedUrlResponse presignDownload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type
+    );
 }
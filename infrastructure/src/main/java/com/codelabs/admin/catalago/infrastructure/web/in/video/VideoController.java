@@ -1,32 +1,49 @@
 package com.codelabs.admin.catalago.infrastructure.web.in.video;
 
 import com.codelabs.admin.catalago.application.ports.in.*;
+import com.codelabs.admin.catalago.application.service.video.bulk.BulkSaveVideosCommand;
+import com.codelabs.admin.catalago.application.service.video.bulk.BulkVideoItem;
 import com.codelabs.admin.catalago.application.service.video.create.CreateVideoCommand;
+import com.codelabs.admin.catalago.application.service.video.media.complete.CompleteMediaUploadCommand;
 import com.codelabs.admin.catalago.application.service.video.media.get.GetMediaCommand;
+import com.codelabs.admin.catalago.application.service.video.media.presign.PresignMediaUploadCommand;
 import com.codelabs.admin.catalago.application.service.video.update.UpdateVideoCommand;
+import com.codelabs.admin.catalago.common.exceptions.PhysicalValidationException;
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
 import com.codelabs.admin.catalago.common.utils.HashingUtils;
+import com.codelabs.admin.catalago.common.utils.IdUtils;
 import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
 import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
 import com.codelabs.admin.catalago.domain.video.Resource;
 import com.codelabs.admin.catalago.domain.video.VideoSearchQuery;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoDetailsResponse;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoListResponse;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoRequest;
-import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.VideoResponse;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.*;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.validator.CompleteMediaUploadValidator;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.validator.PresignMediaUploadValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static com.codelabs.admin.catalago.common.utils.CollectionUtils.mapTo;
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.isCurrent;
+import static com.codelabs.admin.catalago.infrastructure.web.in.ConditionalRequests.notModified;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,6 +55,11 @@ public class VideoController implements VideoAPI {
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
+    private final PresignMediaUseCase presignMediaUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+    private final BulkSaveVideosUseCase bulkSaveVideosUseCase;
+    private final PresignMediaUploadValidator presignMediaUploadValidator;
+    private final CompleteMediaUploadValidator completeMediaUploadValidator;
 
 
     @Override
@@ -49,14 +71,17 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final String count
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
         final var query =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, cursor,
+                        CountMode.of(count));
 
         final var listVideos = listVideosUseCase.listVideos(query);
 
@@ -127,8 +152,41 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public VideoDetailsResponse getById(final String id) {
-        return VideoDetailsResponse.from(this.getVideoByIdUseCase.getById(id));
+    public BulkVideoResponse saveAll(final BulkVideoRequest request) {
+        final var items = request.items() == null ? List.<BulkVideoItemRequest>of() : request.items();
+
+        final var command = BulkSaveVideosCommand.with(items.stream()
+                .map(item -> BulkVideoItem.with(
+                        item.id(),
+                        item.title(),
+                        item.description(),
+                        item.yearLaunched(),
+                        item.duration(),
+                        item.opened(),
+                        item.published(),
+                        item.rating(),
+                        item.categories(),
+                        item.genres(),
+                        item.castMembers()
+                ))
+                .toList());
+
+        return BulkVideoResponse.from(this.bulkSaveVideosUseCase.saveAll(command));
+    }
+
+    @Override
+    public VideoDetailsResponse getById(final String id, final WebRequest request) {
+        final var lastModified = this.getVideoByIdUseCase.getLastModified(id);
+        if (lastModified.isPresent() && isCurrent(request, lastModified.get()) && notModified(request, lastModified.get())) {
+            return null;
+        }
+
+        final var video = this.getVideoByIdUseCase.getById(id);
+        if (notModified(request, video.getUpdatedAt())) {
+            return null;
+        }
+
+        return VideoDetailsResponse.from(video);
     }
 
     @Override
@@ -160,31 +218,142 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> getMediaByType(final String id, final String type) {
+    public ResponseEntity<InputStreamResource> getMediaByType(final String id, final String type,
+                                                              final String range, final String ifRange,
+                                                              final WebRequest request) {
+        // validated against the checksum persisted with the video, a cache hit never opens the stored object
+        final var eTag = this.getMediaUseCase.getChecksum(GetMediaCommand.with(id, type))
+                .map(ETagUtils::strong)
+                .orElse(null);
+
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        final var ranges = ByteRanges.parse(range);
+
+        // If-Range is matched against the stored checksum before the object is opened, without one there is no
+        // validator to match and the ranges are ignored
+        if (ranges.isEmpty() || (ifRange != null && (eTag == null || !ETagUtils.strongMatch(ifRange, eTag)))) {
+            return fullMedia(this.getMediaUseCase.getMedia(GetMediaCommand.with(id, type)), eTag);
+        }
+
         final var aMedia =
-                this.getMediaUseCase.getMedia(GetMediaCommand.with(id, type));
+                this.getMediaUseCase.getMedia(GetMediaCommand.with(id, type, ranges.get(0)));
 
-        return ResponseEntity.ok()
+        if (ranges.size() == 1) {
+            final var contentRange = ByteRanges.contentRangeOf(aMedia);
+
+            return mediaHeaders(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), aMedia, eTag)
+                    .contentType(MediaType.valueOf(aMedia.getContentType()))
+                    .contentLength(contentRange.length())
+                    .header(HttpHeaders.CONTENT_RANGE, ByteRanges.header(contentRange))
+                    .body(new InputStreamResource(aMedia.getInputStream()));
+        }
+
+        final var parts = openParts(id, type, aMedia, ranges);
+
+        final var boundary = IdUtils.uuid();
+        final var body = ByteRanges.multipart(boundary, parts);
+
+        return mediaHeaders(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), aMedia, eTag)
+                .contentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary))
+                .body(new InputStreamResource(body));
+    }
+
+    @Override
+    public PresignedUrlResponse presignUpload(final String id, final String type, final PresignMediaUploadRequest request) {
+        presignMediaUploadValidator.validate(request).isInvalidThrow(PhysicalValidationException.class);
+
+        final var command = PresignMediaUploadCommand.with(
+                id,
+                type,
+                request.name(),
+                request.contentType(),
+                request.contentLength(),
+                request.checksum()
+        );
+
+        return PresignedUrlResponse.from(this.presignMediaUseCase.presignUpload(command));
+    }
+
+    @Override
+    public UploadMediaResponse completeUpload(final String id, final String type, final CompleteMediaUploadRequest request) {
+        completeMediaUploadValidator.validate(request).isInvalidThrow(PhysicalValidationException.class);
+
+        final var command = CompleteMediaUploadCommand.with(id, type, request.uploadId(), request.checksum());
+        final var video = this.completeMediaUploadUseCase.complete(command);
+
+        return new UploadMediaResponse(video.getId().getValue(), VideoMediaType.entryOf(type));
+    }
+
+    @Override
+    public PresignedUrlResponse presignDownload(final String id, final String type) {
+        return PresignedUrlResponse.from(this.presignMediaUseCase.presignDownload(GetMediaCommand.with(id, type)));
+    }
+
+    // every part is opened before the 206 is committed, so an unsatisfiable range or a failed read still
+    // answers with its own status instead of a truncated body
+    private List<Resource> openParts(final String id, final String type, final Resource first,
+                                     final List<ByteRange> ranges) {
+        final var parts = new ArrayList<Resource>(ranges.size());
+        parts.add(first);
+
+        try {
+            ByteRanges.requireSatisfiable(ranges, ByteRanges.contentRangeOf(first).totalLength());
+
+            for (final var next : ranges.subList(1, ranges.size())) {
+                parts.add(this.getMediaUseCase.getMedia(GetMediaCommand.with(id, type, next)));
+            }
+            return parts;
+        } catch (final RuntimeException e) {
+            parts.forEach(this::closeQuietly);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<InputStreamResource> fullMedia(final Resource aMedia, final String validatedETag) {
+        return mediaHeaders(ResponseEntity.ok(), aMedia, validatedETag)
                 .contentType(MediaType.valueOf(aMedia.getContentType()))
                 .contentLength(aMedia.getContentLength())
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.getName()))
                 .body(new InputStreamResource(aMedia.getInputStream()));
     }
 
+    private ResponseEntity.BodyBuilder mediaHeaders(final ResponseEntity.BodyBuilder builder, final Resource aMedia,
+                                                    final String validatedETag) {
+        builder.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.getName()));
+
+        // checkNotModified already wrote the validated ETag, only the stored checksum is left to expose
+        final var eTag = ETagUtils.strong(aMedia.getChecksum());
+        if (validatedETag == null && eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder;
+    }
+
+    private void closeQuietly(final Resource aMedia) {
+        try {
+            aMedia.getInputStream().close();
+        } catch (final IOException ignored) {
+        }
+    }
 
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
-        try {
+        try (final var content = part.getInputStream()) {
+            final var hashes = HashingUtils.hashes(content);
+
             return Resource.with(
                     part.getInputStream(),
-                    part.getBytes().length,
-                    HashingUtils.checksum(part.getBytes()),
+                    part.getSize(),
+                    hashes.checksum(),
                     part.getContentType(),
                     part.getOriginalFilename()
-            );
+            ).withDigest(hashes.digest());
         } catch (Throwable t) {
             throw new RuntimeException(t);
         }
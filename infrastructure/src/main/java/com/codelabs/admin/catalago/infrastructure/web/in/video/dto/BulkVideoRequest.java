@@ -0,0 +1,10 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkVideoRequest(
+        @JsonProperty("items") List<BulkVideoItemRequest> items
+) {
+}
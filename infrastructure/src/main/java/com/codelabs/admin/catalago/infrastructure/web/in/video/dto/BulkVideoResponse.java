@@ -0,0 +1,25 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.dto;
+
+import com.codelabs.admin.catalago.application.service.video.bulk.BulkVideoResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkVideoResponse(
+        @JsonProperty("items") List<Item> items
+) {
+
+    public static BulkVideoResponse from(final List<BulkVideoResult> results) {
+        return new BulkVideoResponse(results.stream()
+                .map(it -> new Item(it.index(), it.id(), it.status(), it.error()))
+                .toList());
+    }
+
+    public record Item(
+            @JsonProperty("index") int index,
+            @JsonProperty("id") String id,
+            @JsonProperty("status") BulkVideoResult.Status status,
+            @JsonProperty("error") String error
+    ) {
+    }
+}
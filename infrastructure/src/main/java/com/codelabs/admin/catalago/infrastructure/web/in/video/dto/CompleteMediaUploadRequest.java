@@ -0,0 +1,9 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CompleteMediaUploadRequest(
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("checksum") String checksum
+) {
+}
@@ -0,0 +1,11 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record PresignMediaUploadRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("content_length") Long contentLength,
+        @JsonProperty("checksum") String checksum
+) {
+}
@@ -0,0 +1,28 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.dto;
+
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PresignedUrlResponse(
+        @JsonProperty("url") String url,
+        @JsonProperty("method") String method,
+        @JsonProperty("expires_at") Instant expiresAt,
+        @JsonProperty("headers") Map<String, String> headers,
+        @JsonProperty("upload_id") String uploadId
+) {
+
+    public static PresignedUrlResponse from(final PresignedUrl presignedUrl) {
+        return new PresignedUrlResponse(
+                presignedUrl.url(),
+                presignedUrl.method(),
+                presignedUrl.expiresAt(),
+                presignedUrl.headers(),
+                presignedUrl.uploadId()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.validator;
+
+import br.com.fluentvalidator.AbstractValidator;
+import com.codelabs.admin.catalago.domain.enums.ProblemType;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.CompleteMediaUploadRequest;
+import org.springframework.stereotype.Component;
+
+import static br.com.fluentvalidator.predicate.StringPredicate.stringEmptyOrNull;
+import static br.com.fluentvalidator.predicate.StringPredicate.stringMatches;
+import static java.util.function.Predicate.not;
+
+@Component
+public class CompleteMediaUploadValidator extends AbstractValidator<CompleteMediaUploadRequest> {
+
+    private static final String UPLOAD_ID = "upload_id";
+    private static final String CHECKSUM = "checksum";
+
+    // the upload id becomes part of the storage key, so only the ids handed out with the upload url are accepted
+    private static final String UPLOAD_ID_PATTERN = "^[0-9a-f]{32}$";
+
+    @Override
+    public void rules() {
+        ruleFor(completeRequest -> completeRequest)
+
+                // UPLOAD ID
+                .must(not(stringEmptyOrNull(CompleteMediaUploadRequest::uploadId)))
+                .withFieldName(UPLOAD_ID)
+                .withCode(ProblemType.UPLOAD_ID_MUST_BE_VALID.name())
+                .withMessage(ProblemType.UPLOAD_ID_MUST_BE_VALID.getDescription())
+
+                .must(stringMatches(CompleteMediaUploadRequest::uploadId, UPLOAD_ID_PATTERN))
+                .when(not(stringEmptyOrNull(CompleteMediaUploadRequest::uploadId)))
+                .withFieldName(UPLOAD_ID)
+                .withCode(ProblemType.UPLOAD_ID_MUST_BE_VALID.name())
+                .withMessage(ProblemType.UPLOAD_ID_MUST_BE_VALID.getDescription())
+
+                // CHECKSUM
+                .must(not(stringEmptyOrNull(CompleteMediaUploadRequest::checksum)))
+                .withFieldName(CHECKSUM)
+                .withCode(ProblemType.CHECKSUM_MUST_NOT_BE_NULL.name())
+                .withMessage(ProblemType.CHECKSUM_MUST_NOT_BE_NULL.getDescription());
+
+    }
+}
@@ -0,0 +1,56 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video.validator;
+
+import br.com.fluentvalidator.AbstractValidator;
+import com.codelabs.admin.catalago.domain.enums.ProblemType;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.PresignMediaUploadRequest;
+import org.springframework.stereotype.Component;
+
+import static br.com.fluentvalidator.predicate.ComparablePredicate.greaterThan;
+import static br.com.fluentvalidator.predicate.ObjectPredicate.nullValue;
+import static br.com.fluentvalidator.predicate.StringPredicate.stringEmptyOrNull;
+import static java.util.function.Predicate.not;
+
+@Component
+public class PresignMediaUploadValidator extends AbstractValidator<PresignMediaUploadRequest> {
+
+    private static final String NAME = "name";
+    private static final String CONTENT_TYPE = "content_type";
+    private static final String CONTENT_LENGTH = "content_length";
+    private static final String CHECKSUM = "checksum";
+
+    @Override
+    public void rules() {
+        ruleFor(presignRequest -> presignRequest)
+
+                // NAME
+                .must(not(stringEmptyOrNull(PresignMediaUploadRequest::name)))
+                .withFieldName(NAME)
+                .withCode(ProblemType.NAME_MUST_NOT_BE_NULL.name())
+                .withMessage(ProblemType.NAME_MUST_NOT_BE_NULL.getDescription())
+
+                // CONTENT TYPE
+                .must(not(stringEmptyOrNull(PresignMediaUploadRequest::contentType)))
+                .withFieldName(CONTENT_TYPE)
+                .withCode(ProblemType.CONTENT_TYPE_MUST_NOT_BE_NULL.name())
+                .withMessage(ProblemType.CONTENT_TYPE_MUST_NOT_BE_NULL.getDescription())
+
+                // CONTENT LENGTH
+                .must(not(nullValue(PresignMediaUploadRequest::contentLength)))
+                .withFieldName(CONTENT_LENGTH)
+                .withCode(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.name())
+                .withMessage(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.getDescription())
+
+                .must(greaterThan(PresignMediaUploadRequest::contentLength, 0L))
+                .when(not(nullValue(PresignMediaUploadRequest::contentLength)))
+                .withFieldName(CONTENT_LENGTH)
+                .withCode(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.name())
+                .withMessage(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.getDescription())
+
+                // CHECKSUM
+                .must(not(stringEmptyOrNull(PresignMediaUploadRequest::checksum)))
+                .withFieldName(CHECKSUM)
+                .withCode(ProblemType.CHECKSUM_MUST_NOT_BE_NULL.name())
+                .withMessage(ProblemType.CHECKSUM_MUST_NOT_BE_NULL.getDescription());
+
+    }
+}
@@ -0,0 +1,29 @@
+package com.codelabs.admin.catalago.infrastructure.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.hibernate.validator.constraints.UUID;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The id of a category, genre, cast member or video received in the path. New ids are time-ordered (v7) or
+ * random (v4) depending on {@code persistence.catalogo-videos.id-version}, the older versions stay accepted.
+ */
+@UUID(version = {1, 2, 3, 4, 5, 7})
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(validatedBy = {})
+public @interface AggregateId {
+
+    String message() default "{org.hibernate.validator.constraints.UUID.message}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
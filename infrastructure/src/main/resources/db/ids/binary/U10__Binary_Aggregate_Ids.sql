@@ -0,0 +1,53 @@
+ALTER TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+ALTER TABLE genres_categories DROP CONSTRAINT fk_category_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_video_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_category_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_video_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_genre_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_video_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_member_id;
+
+ALTER TABLE category MODIFY id VARBINARY(36) NOT NULL;
+UPDATE category SET id = BIN_TO_UUID(id);
+ALTER TABLE category MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres MODIFY id VARBINARY(36) NOT NULL;
+UPDATE genres SET id = BIN_TO_UUID(id);
+ALTER TABLE genres MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE cast_members MODIFY id VARBINARY(36) NOT NULL;
+UPDATE cast_members SET id = BIN_TO_UUID(id);
+ALTER TABLE cast_members MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos MODIFY id VARBINARY(36) NOT NULL;
+UPDATE videos SET id = BIN_TO_UUID(id);
+ALTER TABLE videos MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres_categories MODIFY genre_id VARBINARY(36) NOT NULL, MODIFY category_id VARBINARY(36) NOT NULL;
+UPDATE genres_categories SET genre_id = BIN_TO_UUID(genre_id), category_id = BIN_TO_UUID(category_id);
+ALTER TABLE genres_categories MODIFY genre_id VARCHAR(36) NOT NULL, MODIFY category_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_categories MODIFY video_id VARBINARY(36) NOT NULL, MODIFY category_id VARBINARY(36) NOT NULL;
+UPDATE videos_categories SET video_id = BIN_TO_UUID(video_id), category_id = BIN_TO_UUID(category_id);
+ALTER TABLE videos_categories MODIFY video_id VARCHAR(36) NOT NULL, MODIFY category_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_genres MODIFY video_id VARBINARY(36) NOT NULL, MODIFY genre_id VARBINARY(36) NOT NULL;
+UPDATE videos_genres SET video_id = BIN_TO_UUID(video_id), genre_id = BIN_TO_UUID(genre_id);
+ALTER TABLE videos_genres MODIFY video_id VARCHAR(36) NOT NULL, MODIFY genre_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_cast_members MODIFY video_id VARBINARY(36) NOT NULL, MODIFY cast_member_id VARBINARY(36) NOT NULL;
+UPDATE videos_cast_members SET video_id = BIN_TO_UUID(video_id), cast_member_id = BIN_TO_UUID(cast_member_id);
+ALTER TABLE videos_cast_members MODIFY video_id VARCHAR(36) NOT NULL, MODIFY cast_member_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE media_blob_refs MODIFY video_id VARBINARY(36) NOT NULL;
+UPDATE media_blob_refs SET video_id = BIN_TO_UUID(video_id);
+ALTER TABLE media_blob_refs MODIFY video_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE;
@@ -0,0 +1 @@
+DROP TABLE media_blob_refs;
\ No newline at end of file
@@ -0,0 +1,21 @@
+CREATE INDEX fk_gcs_category_id ON genres_categories (category_id);
+CREATE INDEX fk_vcs_category_id ON videos_categories (category_id);
+CREATE INDEX fk_vgs_genre_id ON videos_genres (genre_id);
+CREATE INDEX fk_vcms_genre_id ON videos_cast_members (cast_member_id);
+
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcs_category_video ON videos_categories;
+
+DROP INDEX idx_videos_created_at ON videos;
+DROP INDEX idx_videos_title ON videos;
+
+DROP INDEX idx_cast_members_created_at ON cast_members;
+DROP INDEX idx_cast_members_name ON cast_members;
+
+DROP INDEX idx_gcs_category_genre ON genres_categories;
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_genres_name ON genres;
+
+DROP INDEX idx_category_created_at ON category;
+DROP INDEX idx_category_name ON category;
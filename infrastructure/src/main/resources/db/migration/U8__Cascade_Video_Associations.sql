@@ -0,0 +1,14 @@
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_member_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_video_id;
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_genre_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
+
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_genre_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_video_id;
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_category_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_video_id;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES category (id);
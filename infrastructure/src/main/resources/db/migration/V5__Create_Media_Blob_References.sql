@@ -0,0 +1,8 @@
+CREATE TABLE media_blob_refs (
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(32) NOT NULL,
+    blob_key VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_media_blob_refs PRIMARY KEY (video_id, media_type)
+);
+
+CREATE INDEX idx_mbr_blob_key ON media_blob_refs (blob_key);
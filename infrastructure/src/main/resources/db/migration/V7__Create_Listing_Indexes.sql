@@ -0,0 +1,16 @@
+CREATE INDEX idx_category_name ON category (name, id);
+CREATE INDEX idx_category_created_at ON category (created_at, id);
+
+CREATE INDEX idx_genres_name ON genres (name, id);
+CREATE INDEX idx_genres_created_at ON genres (created_at, id);
+CREATE INDEX idx_gcs_category_genre ON genres_categories (category_id, genre_id);
+
+CREATE INDEX idx_cast_members_name ON cast_members (name, id);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at, id);
+
+CREATE INDEX idx_videos_title ON videos (title, id);
+CREATE INDEX idx_videos_created_at ON videos (created_at, id);
+
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,9 @@
+CREATE TABLE cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    node_id VARCHAR(32) NOT NULL,
+    region VARCHAR(32) NOT NULL,
+    aggregate_id VARCHAR(36) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
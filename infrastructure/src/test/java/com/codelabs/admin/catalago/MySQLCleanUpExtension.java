@@ -1,8 +1,12 @@
 package com.codelabs.admin.catalago;
 
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.AggregateCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.IdCache;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.PageCache;
 import com.codelabs.admin.catalago.infrastructure.persistence.castmember.repository.CastMemberRepository;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.repository.CategoryRepository;
 import com.codelabs.admin.catalago.infrastructure.persistence.genre.repositoy.GenreRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.repository.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -18,10 +22,16 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class)
         ));
+
+        // the rows are removed behind the adapters, so what they remembered has to go as well
+        appContext.getBean(IdCache.class).invalidateAll();
+        appContext.getBean(AggregateCache.class).invalidateAll();
+        appContext.getBean(PageCache.class).invalidateAll();
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
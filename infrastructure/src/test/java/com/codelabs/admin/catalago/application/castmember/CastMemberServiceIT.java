@@ -57,7 +57,7 @@ public class CastMemberServiceIT {
         Assertions.assertNotNull(actualMember.getUpdatedAt());
         Assertions.assertEquals(actualMember.getCreatedAt(), actualMember.getUpdatedAt());
 
-        verify(castMemberPort).save(any());
+        verify(castMemberPort).create(any());
     }
 
     @Test
@@ -133,7 +133,7 @@ public class GenreServiceIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
         Mockito.verify(categoryPort, times(1)).existsByIds(any());
-        Mockito.verify(genrePort, times(0)).save(any());
+        Mockito.verify(genrePort, times(0)).create(any());
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.codelabs.admin.catalago.infrastructure.persistence;
+
+import com.codelabs.admin.catalago.MySQLAdapterTest;
+import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
+import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
+import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.domain.video.VideoSearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.castmember.adapter.CastMemberPersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.category.adapter.CategoryPersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.genre.adapter.GenrePersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.adapter.VideoPersistenceAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Runs the listing queries against the test database and checks their plans, so a new
+ * sort key or filter without a matching index in the migrations fails here instead of in production.
+ * <p>
+ * H2 only walks an index in ascending order, that's why the listings are asserted with {@code asc}.
+ */
+@MySQLAdapterTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.codelabs.admin.catalago.infrastructure.persistence.RecordingStatementInspector")
+public class QueryPlanTest {
+
+    private static final String TABLE_SCAN = ".tablescan";
+
+    @Autowired
+    private CategoryPersistenceAdapter categoryAdapter;
+
+    @Autowired
+    private GenrePersistenceAdapter genreAdapter;
+
+    @Autowired
+    private CastMemberPersistenceAdapter castMemberAdapter;
+
+    @Autowired
+    private VideoPersistenceAdapter videoAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    public void givenEverySortKey_whenCallsListAggregates_shouldReadThroughAnIndex() {
+        // when
+        for (final var sort : Set.of("name", "createdAt")) {
+            categoryAdapter.listCategories(query(sort, null));
+            categoryAdapter.listCategories(query(sort, ""));
+            genreAdapter.listGenres(query(sort, null));
+            genreAdapter.listGenres(query(sort, ""));
+            castMemberAdapter.listCastMembers(query(sort, null));
+            castMemberAdapter.listCastMembers(query(sort, ""));
+        }
+
+        // then
+        assertEveryListingUsesAnIndex();
+    }
+
+    @Test
+    public void givenAssociationFilters_whenCallsListVideos_shouldReadThroughAnIndex() {
+        // given
+        final var castMembers = Set.of(CastMemberID.unique());
+        final var categories = Set.of(CategoryID.unique());
+        final var genres = Set.of(GenreID.unique());
+
+        // when
+        for (final var sort : Set.of("title", "createdAt")) {
+            videoAdapter.listVideos(videoQuery(sort, castMembers, Set.of(), Set.of(), null));
+            videoAdapter.listVideos(videoQuery(sort, Set.of(), categories, Set.of(), null));
+            videoAdapter.listVideos(videoQuery(sort, Set.of(), Set.of(), genres, null));
+            videoAdapter.listVideos(videoQuery(sort, castMembers, categories, genres, null));
+            videoAdapter.listVideos(videoQuery(sort, castMembers, categories, genres, ""));
+        }
+
+        // then
+        assertEveryListingUsesAnIndex();
+    }
+
+    private void assertEveryListingUsesAnIndex() {
+        final var listings = RecordingStatementInspector.statements().stream()
+                .map(sql -> sql.trim().toLowerCase(Locale.ROOT))
+                // a count without filters or with a contains search has to visit every row whatever the indexes
+                .filter(sql -> sql.startsWith("select") && !sql.startsWith("select count"))
+                .toList();
+
+        Assertions.assertFalse(listings.isEmpty());
+
+        for (final var sql : listings) {
+            final var plan = explain(sql);
+            Assertions.assertFalse(plan.toLowerCase(Locale.ROOT).contains(TABLE_SCAN),
+                    () -> "Query is not using an index:%n%s%n%s".formatted(sql, plan));
+        }
+    }
+
+    private String explain(final String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql,
+                ps -> {
+                    // only the plan is needed, the bound values don't change it
+                    for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                        ps.setObject(i, null);
+                    }
+                },
+                rs -> {
+                    final var plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append(System.lineSeparator());
+                    }
+                    return plan.toString();
+                });
+    }
+
+    private static SearchQuery query(final String sort, final String cursor) {
+        return new SearchQuery(0, 10, "", sort, "asc", cursor, CountMode.EXACT);
+    }
+
+    private static VideoSearchQuery videoQuery(final String sort, final Set<CastMemberID> castMembers,
+                                               final Set<CategoryID> categories, final Set<GenreID> genres,
+                                               final String cursor) {
+        return new VideoSearchQuery(0, 10, "", sort, "asc", castMembers, categories, genres, cursor, CountMode.EXACT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.MySQLAdapterTest;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.repository.CacheInvalidationRepository;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@MySQLAdapterTest
+public class DatabaseInvalidationTransportTest {
+
+    @Autowired
+    private CacheInvalidationRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void givenTwoNodes_whenOnePublishes_shouldDeliverItLocallyAndToTheOtherOnPoll() {
+        // given
+        final var aNode = new DatabaseInvalidationTransport(repository, new PersistenceProperties());
+        final var anotherNode = new DatabaseInvalidationTransport(repository, new PersistenceProperties());
+
+        final var aNodeReceived = new ArrayList<CacheInvalidation>();
+        final var anotherNodeReceived = new ArrayList<CacheInvalidation>();
+        aNode.subscribe(aNodeReceived::add);
+        anotherNode.subscribe(anotherNodeReceived::add);
+
+        final var expectedInvalidations = List.of(
+                CacheInvalidation.of(CacheRegions.VIDEOS, "123"),
+                CacheInvalidation.all(CacheRegions.GENRES)
+        );
+
+        // when
+        expectedInvalidations.forEach(aNode::publish);
+        final var receivedBeforePoll = List.copyOf(anotherNodeReceived);
+
+        aNode.poll();
+        anotherNode.poll();
+
+        // then
+        Assertions.assertTrue(receivedBeforePoll.isEmpty());
+        Assertions.assertEquals(expectedInvalidations, aNodeReceived);
+        Assertions.assertEquals(expectedInvalidations, anotherNodeReceived);
+    }
+
+    @Test
+    public void givenAnIdCommittedAfterABiggerOne_whenPolling_shouldDeliverItOnALaterPoll() {
+        // given
+        final var aNode = new DatabaseInvalidationTransport(repository, new PersistenceProperties());
+        final var anotherNode = new DatabaseInvalidationTransport(repository, new PersistenceProperties());
+
+        final var received = new ArrayList<CacheInvalidation>();
+        anotherNode.subscribe(received::add);
+
+        final var first = CacheInvalidation.of(CacheRegions.VIDEOS, "1");
+        final var late = CacheInvalidation.of(CacheRegions.VIDEOS, "2");
+        final var last = CacheInvalidation.of(CacheRegions.VIDEOS, "3");
+
+        List.of(first, late, last).forEach(aNode::publish);
+
+        // the middle transaction is still open: its id is taken but its row is not visible yet
+        final var lateId = hide(late);
+
+        // when
+        anotherNode.poll();
+        final var receivedBeforeCommit = List.copyOf(received);
+
+        // a writer clock far behind must not matter, only the local gap timeout does
+        insert(lateId, late, Instant.now().minus(Duration.ofDays(1)));
+        anotherNode.poll();
+        anotherNode.poll();
+
+        // then
+        Assertions.assertEquals(List.of(first, last), receivedBeforeCommit);
+        Assertions.assertEquals(List.of(first, last, late), received);
+    }
+
+    @Test
+    public void givenAGapOlderThanTheTimeout_whenPolling_shouldStopAskingForIt() {
+        // given
+        final var properties = new PersistenceProperties();
+        properties.setInvalidationGapTimeout(Duration.ZERO);
+
+        final var aNode = new DatabaseInvalidationTransport(repository, new PersistenceProperties());
+        final var anotherNode = new DatabaseInvalidationTransport(repository, properties);
+
+        final var received = new ArrayList<CacheInvalidation>();
+        anotherNode.subscribe(received::add);
+
+        final var rolledBack = CacheInvalidation.of(CacheRegions.GENRES, "1");
+        final var last = CacheInvalidation.of(CacheRegions.GENRES, "2");
+
+        List.of(rolledBack, last).forEach(aNode::publish);
+        final var rolledBackId = hide(rolledBack);
+
+        // when
+        anotherNode.poll();
+        anotherNode.poll();
+
+        insert(rolledBackId, rolledBack, Instant.now());
+        anotherNode.poll();
+
+        // then
+        Assertions.assertEquals(List.of(last), received);
+    }
+
+    private long hide(final CacheInvalidation invalidation) {
+        final var row = repository.findAll().stream()
+                .filter(it -> it.toInvalidation().equals(invalidation))
+                .findFirst()
+                .orElseThrow();
+        repository.delete(row);
+        entityManager.flush();
+        return row.getId();
+    }
+
+    private void insert(final long id, final CacheInvalidation invalidation, final Instant createdAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO cache_invalidations (id, node_id, region, aggregate_id, created_at) VALUES (?, ?, ?, ?, ?)")
+                .setParameter(1, id)
+                .setParameter(2, "another-node")
+                .setParameter(3, invalidation.region())
+                .setParameter(4, invalidation.id())
+                .setParameter(5, createdAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,79 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.cache;
+
+import com.codelabs.admin.catalago.domain.pagination.Pagination;
+import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class PageCacheTest {
+
+    private static final SearchQuery QUERY = new SearchQuery(0, 25, null, "name", "asc");
+
+    private PageCache pageCache;
+
+    @AfterEach
+    public void tearDown() {
+        if (pageCache != null) {
+            pageCache.shutdown();
+        }
+    }
+
+    @Test
+    public void givenACachedPage_whenTheRegionIsInvalidated_shouldLoadItAgain() {
+        // given
+        pageCache = new PageCache(new PersistenceProperties());
+        final var loads = new AtomicInteger();
+
+        // when
+        final var firstPage = list(loads);
+        final var cachedPage = list(loads);
+
+        pageCache.onInvalidation(CacheInvalidation.of(CacheRegions.CATEGORIES, "123"));
+        final var reloadedPage = list(loads);
+
+        // then
+        Assertions.assertEquals(List.of(1), firstPage.items());
+        Assertions.assertEquals(List.of(1), cachedPage.items());
+        Assertions.assertEquals(List.of(2), reloadedPage.items());
+    }
+
+    @Test
+    public void givenAStaleWindow_whenTheRegionIsInvalidated_shouldAnswerTheStalePageWhileItIsReloaded() throws Exception {
+        // given
+        final var properties = new PersistenceProperties();
+        properties.setPageCacheStale(Duration.ofMinutes(1));
+        pageCache = new PageCache(properties);
+        final var loads = new AtomicInteger();
+
+        list(loads);
+        pageCache.onInvalidation(CacheInvalidation.all(CacheRegions.CATEGORIES));
+
+        // when
+        final var stalePage = list(loads);
+
+        var refreshedPage = list(loads);
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (refreshedPage.items().equals(List.of(1)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            refreshedPage = list(loads);
+        }
+
+        // then
+        Assertions.assertEquals(List.of(1), stalePage.items());
+        Assertions.assertEquals(List.of(2), refreshedPage.items());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private Pagination<Integer> list(final AtomicInteger loads) {
+        final Supplier<Pagination<Integer>> load = () -> new Pagination<>(0, 25, 1, List.of(loads.incrementAndGet()));
+        return pageCache.get(CacheRegions.CATEGORIES, QUERY, load, UnaryOperator.identity());
+    }
+}
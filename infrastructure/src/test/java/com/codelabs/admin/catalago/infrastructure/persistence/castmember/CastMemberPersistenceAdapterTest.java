@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
 
@@ -28,6 +29,9 @@ public class CastMemberPersistenceAdapterTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void givenAValidCastMember_whenCallsSave_shouldPersistIt() {
         // given
@@ -60,6 +64,30 @@ public class CastMemberPersistenceAdapterTest {
         Assertions.assertEquals(member.getUpdatedAt(), persistedMember.getUpdatedAt());
     }
 
+    @Test
+    public void givenOtherEntitiesInTheSameUnitOfWork_whenCallsSave_shouldEvictOnlyTheUpdatedMember() {
+        // given
+        final var vinDiesel = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var rauan = CastMember.newMember("Rauan", CastMemberType.DIRECTOR);
+
+        castMemberRepository.saveAllAndFlush(List.of(CastMemberEntity.from(vinDiesel), CastMemberEntity.from(rauan)));
+        entityManager.clear();
+
+        final var staleVinDiesel = castMemberRepository.findById(vinDiesel.getId().getValue()).orElseThrow();
+        final var managedRauan = castMemberRepository.findById(rauan.getId().getValue()).orElseThrow();
+
+        // when
+        memberAdapter.save(CastMember.with(vinDiesel).update("Vin", CastMemberType.DIRECTOR));
+
+        // then
+        Assertions.assertFalse(entityManager.getEntityManager().contains(staleVinDiesel));
+        Assertions.assertTrue(entityManager.getEntityManager().contains(managedRauan));
+
+        final var actualVinDiesel = castMemberRepository.findById(vinDiesel.getId().getValue()).orElseThrow();
+        Assertions.assertEquals("Vin", actualVinDiesel.getName());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualVinDiesel.getType());
+    }
+
     @Test
     public void givenAValidCastMember_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -2,16 +2,22 @@ package com.codelabs.admin.catalago.infrastructure.persistence.category;
 
 import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
+import com.codelabs.admin.catalago.domain.pagination.Pagination;
 import com.codelabs.admin.catalago.domain.pagination.SearchQuery;
 import com.codelabs.admin.catalago.MySQLAdapterTest;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.CacheRegions;
+import com.codelabs.admin.catalago.infrastructure.persistence.cache.IdCache;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.adapter.CategoryPersistenceAdapter;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.entity.CategoryEntity;
 import com.codelabs.admin.catalago.infrastructure.persistence.category.repository.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
+import java.util.UUID;
 
 @MySQLAdapterTest
 public class CategoryPersistenceAdapterTest {
@@ -22,6 +28,12 @@ public class CategoryPersistenceAdapterTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private IdCache idCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void givenAValidCategory_whenCallsSave_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -57,6 +69,44 @@ public class CategoryPersistenceAdapterTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldPersistIt() {
+        final var expectedName = "Filmes";
+        final var category = Category.newCategory(expectedName, "A categoria mais assistida", true);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualCategory = categoryAdapter.create(category);
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals(expectedName, categoryRepository.findById(category.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenOtherEntitiesInTheSameUnitOfWork_whenCallsSave_shouldEvictOnlyTheUpdatedCategory() {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryEntity.from(filmes), CategoryEntity.from(series)));
+        entityManager.clear();
+
+        final var staleFilmes = categoryRepository.findById(filmes.getId().getValue()).orElseThrow();
+        final var managedSeries = categoryRepository.findById(series.getId().getValue()).orElseThrow();
+
+        // when
+        categoryAdapter.save(filmes.clone().update("Filmes e Séries", "Todos", false));
+
+        // then
+        Assertions.assertFalse(entityManager.getEntityManager().contains(staleFilmes));
+        Assertions.assertTrue(entityManager.getEntityManager().contains(managedSeries));
+
+        final var actualFilmes = categoryRepository.findById(filmes.getId().getValue()).orElseThrow();
+        Assertions.assertEquals("Filmes e Séries", actualFilmes.getName());
+        Assertions.assertFalse(actualFilmes.isActive());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var category = Category.newCategory("Filmes", null, true);
@@ -280,4 +330,140 @@ public class CategoryPersistenceAdapterTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenFollowKeysetPagination_whenCallsListCategoriesWithCursor_shouldSeekAfterTheLastRow() {
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryEntity.from(filmes),
+                CategoryEntity.from(series),
+                CategoryEntity.from(documentarios)
+        ));
+
+        // First page
+        var actualResult = categoryAdapter.listCategories(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Second page
+        actualResult = categoryAdapter.listCategories(
+                new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsListCategories_shouldSkipTheTotalAndTellIfThereIsANextPage() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryEntity.from(filmes),
+                CategoryEntity.from(series),
+                CategoryEntity.from(documentarios)
+        ));
+
+        // Page 0
+        var actualResult = categoryAdapter.listCategories(new SearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(CountMode.NONE, actualResult.countMode());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+
+        // Page 1
+        actualResult = categoryAdapter.listCategories(new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE));
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenCountModeApproximate_whenCallsListCategoriesAfterAnInsert_shouldReuseTheCachedTotal() {
+        final var expectedTotal = 2;
+        final var expectedItems = 3;
+        final var terms = UUID.randomUUID().toString();
+
+        categoryRepository.saveAll(List.of(
+                CategoryEntity.from(Category.newCategory("Filmes " + terms, null, true)),
+                CategoryEntity.from(Category.newCategory("Séries " + terms, null, true))
+        ));
+
+        final var query = new SearchQuery(0, 10, terms, "name", "asc", null, CountMode.APPROXIMATE);
+        categoryAdapter.listCategories(query);
+
+        categoryAdapter.create(Category.newCategory("Documentários " + terms, null, true));
+
+        final var actualResult = categoryAdapter.listCategories(query);
+
+        Assertions.assertEquals(CountMode.APPROXIMATE, actualResult.countMode());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedItems, actualResult.items().size());
+    }
+
+    @Test
+    public void givenAnIdAlreadyChecked_whenCallsExistsByIdsAgain_shouldAnswerFromTheCacheUntilTheCategoryIsDeleted() {
+        // given
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryEntity.from(category));
+
+        final var expectedIds = List.of(category.getId());
+        final var missesBefore = idCache.stats(CacheRegions.CATEGORIES).missCount();
+
+        // when
+        final var firstIds = categoryAdapter.existsByIds(expectedIds);
+        final var secondIds = categoryAdapter.existsByIds(expectedIds);
+
+        categoryAdapter.deleteById(category.getId());
+        final var afterDeleteIds = categoryAdapter.existsByIds(expectedIds);
+
+        // then
+        Assertions.assertEquals(expectedIds, firstIds);
+        Assertions.assertEquals(expectedIds, secondIds);
+        Assertions.assertTrue(afterDeleteIds.isEmpty());
+        Assertions.assertEquals(2, idCache.stats(CacheRegions.CATEGORIES).missCount() - missesBefore);
+    }
+
+    @Test
+    public void givenACategoryAlreadyRead_whenCallsGetByIdAgain_shouldAnswerFromTheCacheUntilItIsSaved() {
+        // given
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryEntity.from(category));
+
+        final var expectedName = "Séries";
+        final var changedBehind = Category.with(category.getId(), "Documentários", null, true,
+                category.getCreatedAt(), category.getUpdatedAt(), null);
+        final var updated = Category.with(category.getId(), expectedName, null, true,
+                category.getCreatedAt(), category.getUpdatedAt(), null);
+
+        // when
+        final var firstRead = categoryAdapter.getById(category.getId());
+        firstRead.deactivate();
+
+        categoryRepository.saveAndFlush(CategoryEntity.from(changedBehind));
+        final var cachedRead = categoryAdapter.getById(category.getId());
+
+        categoryAdapter.save(updated);
+        final var afterSaveRead = categoryAdapter.getById(category.getId());
+
+        // then
+        Assertions.assertEquals("Filmes", cachedRead.getName());
+        Assertions.assertTrue(cachedRead.isActive());
+        Assertions.assertNotSame(firstRead, cachedRead);
+        Assertions.assertEquals(expectedName, afterSaveRead.getName());
+    }
+
+}
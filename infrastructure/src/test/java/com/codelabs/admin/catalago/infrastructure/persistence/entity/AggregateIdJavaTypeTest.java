@@ -0,0 +1,66 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.entity;
+
+import com.codelabs.admin.catalago.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class AggregateIdJavaTypeTest {
+
+    private final AggregateIdJavaType javaType = new AggregateIdJavaType();
+
+    @Test
+    public void givenAnAggregateId_whenStoredAsBinary_shouldReadBackTheSameText() {
+        // given
+        final var expectedId = CategoryID.unique().getValue();
+
+        // when
+        final byte[] actualColumn = javaType.unwrap(expectedId, byte[].class, null);
+        final var actualId = javaType.wrap(actualColumn, null);
+
+        // then
+        Assertions.assertEquals(16, actualColumn.length);
+        Assertions.assertEquals(expectedId, actualId);
+    }
+
+    @Test
+    public void givenAnAggregateId_whenStoredAsText_shouldKeepItUnchanged() {
+        // given
+        final var expectedId = CategoryID.unique().getValue();
+
+        // when
+        final String actualColumn = javaType.unwrap(expectedId, String.class, null);
+
+        // then
+        Assertions.assertEquals(expectedId, actualColumn);
+        Assertions.assertEquals(expectedId, javaType.wrap(UUID.fromString(expectedId), null));
+    }
+
+    @Test
+    public void givenIdsCreatedInSequence_whenStoredAsBinary_shouldKeepTheTextOrder() throws InterruptedException {
+        // given
+        final var anId = CategoryID.unique().getValue();
+        Thread.sleep(2);
+        final var anotherId = CategoryID.unique().getValue();
+
+        // when
+        final byte[] aColumn = javaType.unwrap(anId, byte[].class, null);
+        final byte[] anotherColumn = javaType.unwrap(anotherId, byte[].class, null);
+
+        // then
+        Assertions.assertTrue(anId.compareTo(anotherId) < 0);
+        Assertions.assertTrue(Arrays.compareUnsigned(aColumn, anotherColumn) < 0);
+    }
+
+    @Test
+    public void givenAnIdThatIsNotAUuid_whenStoredAsBinary_shouldBindNull() {
+        // when
+        final byte[] actualColumn = javaType.unwrap("123", byte[].class, null);
+
+        // then
+        Assertions.assertNull(actualColumn);
+        Assertions.assertEquals("123", javaType.unwrap("123", String.class, null));
+    }
+}
@@ -0,0 +1,577 @@
+package com.codelabs.admin.catalago.infrastructure.persistence.video;
+
+import com.codelabs.admin.catalago.MySQLAdapterTest;
+import com.codelabs.admin.catalago.domain.castmember.CastMember;
+import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
+import com.codelabs.admin.catalago.domain.category.Category;
+import com.codelabs.admin.catalago.domain.category.CategoryID;
+import com.codelabs.admin.catalago.domain.enums.CastMemberType;
+import com.codelabs.admin.catalago.domain.enums.Rating;
+import com.codelabs.admin.catalago.domain.genre.Genre;
+import com.codelabs.admin.catalago.domain.genre.GenreID;
+import com.codelabs.admin.catalago.domain.pagination.CountMode;
+import com.codelabs.admin.catalago.domain.pagination.Pagination;
+import com.codelabs.admin.catalago.domain.video.AudioVideoMedia;
+import com.codelabs.admin.catalago.domain.video.ImageMedia;
+import com.codelabs.admin.catalago.domain.video.Video;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import com.codelabs.admin.catalago.domain.video.VideoSearchQuery;
+import com.codelabs.admin.catalago.infrastructure.persistence.RecordingStatementInspector;
+import com.codelabs.admin.catalago.infrastructure.persistence.castmember.adapter.CastMemberPersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.PersistenceProperties;
+import com.codelabs.admin.catalago.infrastructure.persistence.config.VideoSearchMode;
+import com.codelabs.admin.catalago.infrastructure.persistence.category.adapter.CategoryPersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.genre.adapter.GenrePersistenceAdapter;
+import com.codelabs.admin.catalago.infrastructure.persistence.video.adapter.VideoPersistenceAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+@MySQLAdapterTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.codelabs.admin.catalago.infrastructure.persistence.RecordingStatementInspector")
+public class VideoPersistenceAdapterTest {
+
+    @Autowired
+    private VideoPersistenceAdapter videoAdapter;
+
+    @Autowired
+    private CategoryPersistenceAdapter categoryAdapter;
+
+    @Autowired
+    private GenrePersistenceAdapter genreAdapter;
+
+    @Autowired
+    private CastMemberPersistenceAdapter castMemberAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PersistenceProperties persistenceProperties;
+
+    private Category filmes;
+    private Category series;
+    private Genre acao;
+    private Genre suspense;
+    private CastMember vinDiesel;
+    private CastMember rauan;
+
+    @BeforeEach
+    void setup() {
+        filmes = categoryAdapter.save(Category.newCategory("Filmes", null, true));
+        series = categoryAdapter.save(Category.newCategory("Séries", null, true));
+        acao = genreAdapter.save(Genre.newGenre("Ação", true));
+        suspense = genreAdapter.save(Genre.newGenre("Suspense", true));
+        vinDiesel = castMemberAdapter.save(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        rauan = castMemberAdapter.save(CastMember.newMember("Rauan", CastMemberType.DIRECTOR));
+    }
+
+    @Test
+    public void givenVideosWithManyAssociations_whenCallsListVideosWithoutFilters_shouldReturnEachVideoOnce() {
+        // given
+        videoAdapter.save(video("Corrida Mortal",
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId(), suspense.getId()),
+                Set.of(vinDiesel.getId(), rauan.getId())));
+        videoAdapter.save(video("Velozes e Furiosos",
+                Set.of(filmes.getId()),
+                Set.of(acao.getId()),
+                Set.of(vinDiesel.getId())));
+
+        final var expectedTotal = 2;
+
+        // when
+        final var actualResult = videoAdapter.listVideos(query(null, Set.of(), Set.of(), Set.of()));
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+        Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+        Assertions.assertEquals("Velozes e Furiosos", actualResult.items().get(1).title());
+    }
+
+    @Test
+    public void givenFiltersMatchingSeveralAssociations_whenCallsListVideos_shouldNotDuplicateTheVideo() {
+        // given
+        videoAdapter.save(video("Corrida Mortal",
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId(), suspense.getId()),
+                Set.of(vinDiesel.getId(), rauan.getId())));
+        videoAdapter.save(video("Velozes e Furiosos",
+                Set.of(series.getId()),
+                Set.of(suspense.getId()),
+                Set.of(rauan.getId())));
+
+        final var expectedTotal = 1;
+
+        // when
+        final var actualResult = videoAdapter.listVideos(query("corrida",
+                Set.of(vinDiesel.getId(), rauan.getId()),
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId(), suspense.getId())));
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+        Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+    }
+
+    @Test
+    public void givenATermShorterThanTheNgramToken_whenCallsListVideosInFullTextMode_shouldSearchByLike() {
+        // given
+        videoAdapter.save(video("Corrida Mortal", Set.of(filmes.getId()), Set.of(acao.getId()), Set.of(vinDiesel.getId())));
+        videoAdapter.save(video("Velozes e Furiosos", Set.of(filmes.getId()), Set.of(acao.getId()), Set.of(vinDiesel.getId())));
+
+        final var expectedTotal = 1;
+
+        persistenceProperties.setVideoSearchMode(VideoSearchMode.FULLTEXT);
+        RecordingStatementInspector.clear();
+
+        try {
+            // when, a single character phrase has no n-gram to match and returned no video at all
+            final var actualResult = videoAdapter.listVideos(query("c", Set.of(), Set.of(), Set.of()));
+
+            // then
+            Assertions.assertEquals(expectedTotal, actualResult.total());
+            Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+            Assertions.assertTrue(RecordingStatementInspector.statements().stream()
+                    .noneMatch(sql -> sql.toLowerCase().contains("match(")));
+        } finally {
+            persistenceProperties.setVideoSearchMode(VideoSearchMode.LIKE);
+        }
+    }
+
+    @Test
+    public void givenAVideoWithEveryMediaAndAssociation_whenCallsGetById_shouldJoinOnlyOneCollection() {
+        // given
+        final var video = video("Corrida Mortal",
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId(), suspense.getId()),
+                Set.of(vinDiesel.getId(), rauan.getId()))
+                .updateVideoMedia(AudioVideoMedia.with("video-checksum", "video.mp4", "/videos/video.mp4"))
+                .updateTrailerMedia(AudioVideoMedia.with("trailer-checksum", "trailer.mp4", "/videos/trailer.mp4"))
+                .updateBannerMedia(ImageMedia.with("banner-checksum", "banner.jpg", "/images/banner.jpg"))
+                .updateThumbnailMedia(ImageMedia.with("thumb-checksum", "thumb.jpg", "/images/thumb.jpg"))
+                .updateThumbnailHalfMedia(ImageMedia.with("half-checksum", "half.jpg", "/images/half.jpg"));
+
+        videoAdapter.save(video);
+
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // when, joining the three sets in one select returned categories x genres x cast members rows
+        final var actualVideo = videoAdapter.getById(video.getId());
+
+        // then, the medias and cast members in one select and a subselect for each of the other two sets
+        final var actualStatements = RecordingStatementInspector.statements();
+        Assertions.assertEquals(3, actualStatements.size());
+        Assertions.assertTrue(actualStatements.get(0).contains("videos_cast_members"));
+        Assertions.assertFalse(actualStatements.get(0).contains("videos_categories"));
+        Assertions.assertFalse(actualStatements.get(0).contains("videos_genres"));
+        Assertions.assertEquals(2, actualVideo.getCategories().size());
+        Assertions.assertEquals(2, actualVideo.getGenres().size());
+        Assertions.assertEquals(2, actualVideo.getCastMembers().size());
+        Assertions.assertEquals("video-checksum", actualVideo.getVideo().get().getChecksum());
+        Assertions.assertEquals("trailer-checksum", actualVideo.getTrailer().get().getChecksum());
+        Assertions.assertEquals("banner-checksum", actualVideo.getBanner().get().getChecksum());
+        Assertions.assertEquals("thumb-checksum", actualVideo.getThumbnail().get().getChecksum());
+        Assertions.assertEquals("half-checksum", actualVideo.getThumbnailHalf().get().getChecksum());
+    }
+
+    @Test
+    public void givenSeveralVideosWithAssociations_whenCallsGetAllByIds_shouldLoadThemWithoutASelectPerVideo() {
+        // given
+        final var videos = List.of(
+                video("Corrida Mortal", Set.of(filmes.getId(), series.getId()), Set.of(acao.getId(), suspense.getId()),
+                        Set.of(vinDiesel.getId(), rauan.getId())),
+                video("Duro de Matar", Set.of(filmes.getId()), Set.of(acao.getId()), Set.of(vinDiesel.getId())),
+                video("Velozes e Furiosos", Set.of(series.getId()), Set.of(suspense.getId()), Set.of(rauan.getId())));
+
+        videos.forEach(videoAdapter::save);
+
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // when
+        final var actualVideos = videoAdapter.getAllByIds(videos.stream().map(Video::getId).toList());
+
+        // then
+        Assertions.assertEquals(3, RecordingStatementInspector.statements().size());
+        Assertions.assertEquals(3, actualVideos.size());
+        Assertions.assertEquals(4, actualVideos.stream().mapToInt(it -> it.getCategories().size()).sum());
+        Assertions.assertEquals(4, actualVideos.stream().mapToInt(it -> it.getGenres().size()).sum());
+        Assertions.assertEquals(4, actualVideos.stream().mapToInt(it -> it.getCastMembers().size()).sum());
+    }
+
+    @Test
+    public void givenAVideoWithFiftyCastMembers_whenCallsSaveReplacingOneOfThem_shouldOnlyWriteTheDifference() {
+        // given
+        final var castMembers = new HashSet<CastMemberID>();
+        for (int i = 0; i < 50; i++) {
+            castMembers.add(castMemberAdapter.save(CastMember.newMember("Member " + i, CastMemberType.ACTOR)).getId());
+        }
+
+        final var video = videoAdapter.save(video("Corrida Mortal", Set.of(filmes.getId()), Set.of(acao.getId()),
+                castMembers));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final var removed = castMembers.iterator().next();
+        final var expectedCastMembers = new HashSet<>(castMembers);
+        expectedCastMembers.remove(removed);
+        expectedCastMembers.add(rauan.getId());
+
+        final var updated = Video.with(video).update(video.getTitle(), video.getDescription(), video.getLaunchedAt(),
+                video.getDuration(), video.getOpened(), video.getPublished(), video.getRating(),
+                video.getCategories(), video.getGenres(), expectedCastMembers);
+
+        RecordingStatementInspector.clear();
+
+        // when, merging the rebuilt entity used to walk and rewrite every association row
+        videoAdapter.save(updated);
+        entityManager.flush();
+
+        // then, the aggregate select, the videos update, one delete and one insert
+        Assertions.assertEquals(4, RecordingStatementInspector.statements().size());
+
+        entityManager.clear();
+        Assertions.assertEquals(expectedCastMembers, videoAdapter.getById(video.getId()).getCastMembers());
+    }
+
+    @Test
+    public void givenANewVideo_whenCallsCreate_shouldInsertWithoutSelectingItFirst() {
+        // given
+        final var video = video("Corrida Mortal",
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId(), suspense.getId()),
+                Set.of(vinDiesel.getId(), rauan.getId()))
+                .updateBannerMedia(ImageMedia.with("banner-checksum", "banner.jpg", "/images/banner.jpg"));
+
+        entityManager.flush();
+        RecordingStatementInspector.clear();
+
+        // when
+        videoAdapter.create(video);
+        entityManager.flush();
+
+        // then
+        Assertions.assertTrue(RecordingStatementInspector.statements().stream()
+                .noneMatch(sql -> sql.trim().toLowerCase().startsWith("select")));
+
+        entityManager.clear();
+        Assertions.assertEquals(video.getCastMembers(), videoAdapter.getById(video.getId()).getCastMembers());
+    }
+
+    @Test
+    public void givenAVideoWithMediasAndAssociations_whenCallsDeleteById_shouldRemoveEveryRowWithoutLoadingIt() {
+        // given
+        final var video = videoAdapter.create(video("Corrida Mortal",
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(acao.getId()),
+                Set.of(vinDiesel.getId(), rauan.getId()))
+                .updateVideoMedia(AudioVideoMedia.with("video-checksum", "video.mp4", "/videos/video.mp4"))
+                .updateBannerMedia(ImageMedia.with("banner-checksum", "banner.jpg", "/images/banner.jpg")));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final var actualDeleted = videoAdapter.deleteById(video.getId());
+        final var actualDeletedAgain = videoAdapter.deleteById(video.getId());
+
+        // then
+        Assertions.assertEquals(1, actualDeleted);
+        Assertions.assertEquals(0, actualDeletedAgain);
+
+        for (final var table : List.of("videos", "videos_categories", "videos_genres", "videos_cast_members",
+                "videos_video_media", "videos_image_media")) {
+            Assertions.assertEquals(0L, ((Number) entityManager.getEntityManager()
+                    .createNativeQuery("select count(*) from " + table)
+                    .getSingleResult()).longValue(), table);
+        }
+    }
+
+    @Test
+    public void givenVideosAndGenresReferencingACategory_whenCallsDeleteCategory_shouldBumpTheirUpdatedAt() {
+        // given
+        final var drama = genreAdapter.save(Genre.newGenre("Drama", true).addCategory(filmes.getId()));
+        final var referencing = videoAdapter.create(video("Corrida Mortal",
+                Set.of(filmes.getId()), Set.of(), Set.of()));
+        final var unrelated = videoAdapter.create(video("Velozes e Furiosos",
+                Set.of(series.getId()), Set.of(), Set.of()));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        categoryAdapter.deleteById(filmes.getId());
+
+        // then
+        Assertions.assertTrue(videoAdapter.getUpdatedAt(referencing.getId()).orElseThrow()
+                .isAfter(referencing.getUpdatedAt()));
+        Assertions.assertTrue(genreAdapter.getUpdatedAt(drama.getId()).orElseThrow()
+                .isAfter(drama.getUpdatedAt()));
+        Assertions.assertEquals(unrelated.getUpdatedAt(), videoAdapter.getUpdatedAt(unrelated.getId()).orElseThrow());
+        Assertions.assertTrue(videoAdapter.getById(referencing.getId()).getCategories().isEmpty());
+    }
+
+    @Test
+    public void givenAVideoReferencingAGenre_whenCallsDeleteGenre_shouldBumpItsUpdatedAt() {
+        // given
+        final var referencing = videoAdapter.create(video("Corrida Mortal",
+                Set.of(), Set.of(acao.getId()), Set.of()));
+        final var unrelated = videoAdapter.create(video("Velozes e Furiosos",
+                Set.of(), Set.of(suspense.getId()), Set.of()));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        genreAdapter.deleteById(acao.getId());
+
+        // then
+        Assertions.assertTrue(videoAdapter.getUpdatedAt(referencing.getId()).orElseThrow()
+                .isAfter(referencing.getUpdatedAt()));
+        Assertions.assertEquals(unrelated.getUpdatedAt(), videoAdapter.getUpdatedAt(unrelated.getId()).orElseThrow());
+    }
+
+    @Test
+    public void givenAVideoReferencingACastMember_whenCallsDeleteCastMember_shouldBumpItsUpdatedAt() {
+        // given
+        final var referencing = videoAdapter.create(video("Corrida Mortal",
+                Set.of(), Set.of(), Set.of(vinDiesel.getId())));
+        final var unrelated = videoAdapter.create(video("Velozes e Furiosos",
+                Set.of(), Set.of(), Set.of(rauan.getId())));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        castMemberAdapter.deleteById(vinDiesel.getId());
+
+        // then
+        Assertions.assertTrue(videoAdapter.getUpdatedAt(referencing.getId()).orElseThrow()
+                .isAfter(referencing.getUpdatedAt()));
+        Assertions.assertEquals(unrelated.getUpdatedAt(), videoAdapter.getUpdatedAt(unrelated.getId()).orElseThrow());
+    }
+
+    @Test
+    public void givenNewVideosAndUpdates_whenCallsSaveAll_shouldLoadOnlyTheUpdatesAndBatchTheWrites() {
+        // given
+        final var renamed = videoAdapter.create(video("Corrida Mortal", Set.of(filmes.getId()), Set.of(), Set.of()));
+        final var recategorized = videoAdapter.create(video("Duro de Matar", Set.of(filmes.getId()), Set.of(), Set.of()));
+        final var missing = VideoID.unique();
+
+        final var newVideos = List.of(
+                video("Velozes e Furiosos", Set.of(series.getId()), Set.of(), Set.of()),
+                video("Velozes e Furiosos 2", Set.of(series.getId()), Set.of(), Set.of()),
+                video("Velozes e Furiosos 3", Set.of(series.getId()), Set.of(), Set.of()));
+
+        final Map<VideoID, UnaryOperator<Video>> updates = Map.of(
+                renamed.getId(), it -> update(it, "Corrida Mortal 2", it.getCategories()),
+                recategorized.getId(), it -> update(it, it.getTitle(), Set.of(series.getId())),
+                missing, UnaryOperator.identity());
+
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // when
+        final var actualVideos = videoAdapter.saveAll(newVideos, updates);
+        entityManager.flush();
+
+        // then, the updated videos with their categories and genres subselects, no merge select for the new
+        // ones, and one statement per batch: videos inserts, association inserts, videos updates, one delete
+        final var actualStatements = RecordingStatementInspector.statements();
+        Assertions.assertEquals(7, actualStatements.size());
+        Assertions.assertTrue(actualStatements.subList(0, 3).stream()
+                .allMatch(sql -> sql.trim().toLowerCase().startsWith("select")));
+        Assertions.assertTrue(actualStatements.subList(3, 7).stream()
+                .noneMatch(sql -> sql.trim().toLowerCase().startsWith("select")));
+        Assertions.assertEquals(5, actualVideos.size());
+
+        entityManager.clear();
+
+        final var actualStored = videoAdapter.getAllByIds(List.of(renamed.getId(), recategorized.getId(), missing));
+        Assertions.assertEquals(2, actualStored.size());
+        Assertions.assertTrue(actualStored.stream().anyMatch(it -> it.getTitle().equals("Corrida Mortal 2")
+                && it.getCategories().equals(Set.of(filmes.getId()))));
+        Assertions.assertTrue(actualStored.stream().anyMatch(it -> it.getTitle().equals("Duro de Matar")
+                && it.getCategories().equals(Set.of(series.getId()))));
+        Assertions.assertEquals(3, videoAdapter.getAllByIds(newVideos.stream().map(Video::getId).toList()).size());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAChunkWithAnInvalidVideo_whenCallsSaveAll_shouldRollBackTheWholeChunk() {
+        // given, outside the test transaction so the adapter commits on its own
+        final var existing = videoAdapter.create(video("Corrida Mortal", Set.of(filmes.getId()), Set.of(), Set.of()));
+
+        final var valid = video("Velozes e Furiosos", Set.of(series.getId()), Set.of(), Set.of());
+        final var invalid = video("Duro de Matar", Set.of(CategoryID.unique()), Set.of(), Set.of());
+
+        final Map<VideoID, UnaryOperator<Video>> updates = Map.of(
+                existing.getId(), it -> update(it, "Corrida Mortal 2", it.getCategories()));
+
+        // when
+        Assertions.assertThrows(DataIntegrityViolationException.class,
+                () -> videoAdapter.saveAll(List.of(valid, invalid), updates));
+
+        // then
+        final var actualVideos = videoAdapter.getAllByIds(List.of(existing.getId(), valid.getId(), invalid.getId()));
+        Assertions.assertEquals(1, actualVideos.size());
+        Assertions.assertEquals("Corrida Mortal", actualVideos.get(0).getTitle());
+    }
+
+    @Test
+    public void givenFollowKeysetPagination_whenCallsListVideosWithCursor_shouldSeekAfterTheLastRow() {
+        // given
+        final var expectedPerPage = 2;
+
+        videoAdapter.save(video("Velozes e Furiosos", Set.of(), Set.of(), Set.of()));
+        videoAdapter.save(video("Corrida Mortal", Set.of(), Set.of(), Set.of()));
+        videoAdapter.save(video("Duro de Matar", Set.of(), Set.of(), Set.of()));
+
+        // when, first page
+        var actualResult = videoAdapter.listVideos(keysetQuery(expectedPerPage, Set.of(), ""));
+
+        // then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+        Assertions.assertEquals("Duro de Matar", actualResult.items().get(1).title());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // when, second page
+        actualResult = videoAdapter.listVideos(keysetQuery(expectedPerPage, Set.of(), actualResult.nextCursor()));
+
+        // then
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("Velozes e Furiosos", actualResult.items().get(0).title());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAKeysetListingFilteredByCategory_whenCallsListVideosWithCursor_shouldSeekOnlyOverTheMatchingVideos() {
+        // given
+        videoAdapter.save(video("Corrida Mortal", Set.of(filmes.getId(), series.getId()), Set.of(), Set.of()));
+        videoAdapter.save(video("Duro de Matar", Set.of(series.getId()), Set.of(), Set.of()));
+        videoAdapter.save(video("Velozes e Furiosos", Set.of(filmes.getId()), Set.of(), Set.of()));
+
+        // when, first page
+        var actualResult = videoAdapter.listVideos(keysetQuery(1, Set.of(filmes.getId()), ""));
+
+        // then
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // when, second page skips the video outside the category
+        actualResult = videoAdapter.listVideos(keysetQuery(1, Set.of(filmes.getId()), actualResult.nextCursor()));
+
+        // then
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("Velozes e Furiosos", actualResult.items().get(0).title());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsListVideos_shouldSkipTheCountAndTellIfThereIsANextPage() {
+        // given
+        videoAdapter.save(video("Velozes e Furiosos", Set.of(filmes.getId()), Set.of(), Set.of()));
+        videoAdapter.save(video("Corrida Mortal", Set.of(filmes.getId()), Set.of(), Set.of()));
+        videoAdapter.save(video("Duro de Matar", Set.of(filmes.getId()), Set.of(), Set.of()));
+
+        entityManager.flush();
+        RecordingStatementInspector.clear();
+
+        // when, page 0
+        var actualResult = videoAdapter.listVideos(countQuery(0, Set.of(filmes.getId()), CountMode.NONE));
+
+        // then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(CountMode.NONE, actualResult.countMode());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals("Corrida Mortal", actualResult.items().get(0).title());
+        Assertions.assertTrue(RecordingStatementInspector.statements().stream()
+                .noneMatch(sql -> sql.toLowerCase().contains("count(")));
+
+        // when, page 1
+        actualResult = videoAdapter.listVideos(countQuery(1, Set.of(filmes.getId()), CountMode.NONE));
+
+        // then
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("Velozes e Furiosos", actualResult.items().get(0).title());
+    }
+
+    @Test
+    public void givenCountModeApproximate_whenCallsListVideosAfterAnInsert_shouldReuseTheCachedTotal() {
+        // given
+        final var expectedTotal = 2;
+        final var expectedItems = 3;
+
+        videoAdapter.save(video("Velozes e Furiosos", Set.of(series.getId()), Set.of(), Set.of()));
+        videoAdapter.save(video("Corrida Mortal", Set.of(series.getId()), Set.of(), Set.of()));
+
+        final var query = new VideoSearchQuery(0, 10, null, "title", "asc", Set.of(), Set.of(series.getId()),
+                Set.of(), null, CountMode.APPROXIMATE);
+        videoAdapter.listVideos(query);
+
+        videoAdapter.create(video("Duro de Matar", Set.of(series.getId()), Set.of(), Set.of()));
+
+        // when
+        final var actualResult = videoAdapter.listVideos(query);
+
+        // then
+        Assertions.assertEquals(CountMode.APPROXIMATE, actualResult.countMode());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedItems, actualResult.items().size());
+    }
+
+    private static VideoSearchQuery query(final String terms, final Set<CastMemberID> castMembers,
+                                          final Set<CategoryID> categories, final Set<GenreID> genres) {
+        return new VideoSearchQuery(0, 10, terms, "title", "asc", castMembers, categories, genres);
+    }
+
+    private static VideoSearchQuery keysetQuery(final int perPage, final Set<CategoryID> categories,
+                                                final String cursor) {
+        return new VideoSearchQuery(0, perPage, null, "title", "asc", Set.of(), categories, Set.of(), cursor,
+                CountMode.EXACT);
+    }
+
+    private static VideoSearchQuery countQuery(final int page, final Set<CategoryID> categories,
+                                               final CountMode countMode) {
+        return new VideoSearchQuery(page, 2, null, "title", "asc", Set.of(), categories, Set.of(), null, countMode);
+    }
+
+    private static Video update(final Video video, final String title, final Set<CategoryID> categories) {
+        return video.update(title, video.getDescription(), video.getLaunchedAt(), video.getDuration(),
+                video.getOpened(), video.getPublished(), video.getRating(), categories, video.getGenres(),
+                video.getCastMembers());
+    }
+
+    private static Video video(final String title, final Set<CategoryID> categories, final Set<GenreID> genres,
+                               final Set<CastMemberID> castMembers) {
+        return Video.newVideo(title, "description", Year.of(2022), 120.0, true, true, Rating.L,
+                categories, genres, castMembers);
+    }
+}
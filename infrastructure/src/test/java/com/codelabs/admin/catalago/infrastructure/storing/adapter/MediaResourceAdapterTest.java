@@ -0,0 +1,244 @@
+package com.codelabs.admin.catalago.infrastructure.storing.adapter;
+
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
+import com.codelabs.admin.catalago.domain.enums.VideoMediaType;
+import com.codelabs.admin.catalago.domain.video.MediaCleanupReport;
+import com.codelabs.admin.catalago.domain.video.MediaUpload;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.StoredMedia;
+import com.codelabs.admin.catalago.domain.video.VideoID;
+import com.codelabs.admin.catalago.domain.video.VideoResource;
+import com.codelabs.admin.catalago.infrastructure.persistence.media.repository.MediaBlobReferenceRepository;
+import com.codelabs.admin.catalago.infrastructure.storing.config.MediaLayout;
+import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import com.codelabs.admin.catalago.infrastructure.storing.service.StorageService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MediaResourceAdapterTest {
+
+    private static final String DIGEST = "a".repeat(64);
+
+    private MediaResourceAdapter adapter;
+    private StorageService storageService;
+    private MediaBlobReferenceRepository blobReferenceRepository;
+
+    @BeforeEach
+    void setup() {
+        final var properties = new StoringProperties();
+        properties.setLayout(MediaLayout.CONTENT_ADDRESSED);
+        properties.setFilenamePattern("type-{type}");
+        properties.setLocationPattern("videoId-{videoId}");
+
+        this.storageService = mock(StorageService.class);
+        this.blobReferenceRepository = mock(MediaBlobReferenceRepository.class);
+        this.adapter = new MediaResourceAdapter(properties, this.storageService, this.blobReferenceRepository,
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    public void givenAnAlreadyStoredBlob_whenCallsStoreAudioVideo_shouldOnlyReferenceIt() {
+        // given
+        final var expectedKey = "blobs/" + DIGEST + "-4";
+        final var resource = Resource.with(new ByteArrayInputStream(new byte[4]), 4, "CgsMDQ==", "video/mp4", "video.mp4")
+                .withDigest(DIGEST);
+
+        when(storageService.head(eq(expectedKey)))
+                .thenReturn(Optional.of(StoredMedia.with(expectedKey, "CgsMDQ==", "video.mp4", 4)));
+
+        // when
+        final var actualMedia = this.adapter.storeAudioVideo(VideoID.unique(),
+                VideoResource.with(VideoMediaType.VIDEO, resource));
+
+        // then
+        Assertions.assertEquals(expectedKey, actualMedia.getRawLocation());
+
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(storageService).head(eq(expectedKey));
+        inOrder.verify(blobReferenceRepository).saveAndFlush(any());
+        inOrder.verify(storageService).head(eq(expectedKey));
+        verify(storageService, never()).store(anyString(), any());
+    }
+
+    @Test
+    public void givenTwoMediasWithTheSameChecksum_whenCallsStoreAudioVideo_shouldKeepThemInDifferentBlobs() {
+        // given
+        final var storedKey = "blobs/" + DIGEST + "-4";
+        final var otherDigest = "b".repeat(64);
+        final var expectedKey = "blobs/" + otherDigest + "-4";
+        final var resource = Resource.with(new ByteArrayInputStream(new byte[4]), 4, "CgsMDQ==", "video/mp4", "video.mp4")
+                .withDigest(otherDigest);
+
+        when(storageService.head(eq(storedKey)))
+                .thenReturn(Optional.of(StoredMedia.with(storedKey, "CgsMDQ==", "video.mp4", 4)));
+        when(storageService.head(eq(expectedKey)))
+                .thenReturn(Optional.empty(), Optional.of(StoredMedia.with(expectedKey, "CgsMDQ==", "video.mp4", 4)));
+
+        // when
+        final var actualMedia = this.adapter.storeAudioVideo(VideoID.unique(),
+                VideoResource.with(VideoMediaType.VIDEO, resource));
+
+        // then
+        Assertions.assertEquals(expectedKey, actualMedia.getRawLocation());
+
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(storageService).store(eq(expectedKey), eq(resource));
+        inOrder.verify(blobReferenceRepository).saveAndFlush(argThat(reference -> expectedKey.equals(reference.getBlobKey())));
+    }
+
+    @Test
+    public void givenAMediaWithoutDigest_whenCallsStoreAudioVideo_shouldStoreItUnderItsOwnKey() {
+        // given
+        final var id = VideoID.unique();
+        final var expectedPrefix = "videoId-" + id.getValue() + "/uploads/";
+        final var resource = Resource.with(new ByteArrayInputStream(new byte[4]), 4, "CgsMDQ==", "video/mp4", "video.mp4");
+
+        when(storageService.head(anyString()))
+                .thenReturn(Optional.of(StoredMedia.with("key", "CgsMDQ==", "video.mp4", 4)));
+
+        // when
+        final var actualMedia = this.adapter.storeAudioVideo(id, VideoResource.with(VideoMediaType.VIDEO, resource));
+
+        // then
+        Assertions.assertTrue(actualMedia.getRawLocation().startsWith(expectedPrefix));
+
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(storageService).store(eq(actualMedia.getRawLocation()), eq(resource));
+        inOrder.verify(blobReferenceRepository).saveAndFlush(any());
+        inOrder.verify(storageService).head(eq(actualMedia.getRawLocation()));
+    }
+
+    @Test
+    public void givenAReplacedMedia_whenCallsStoreAudioVideo_shouldReleaseThePreviousBlob() {
+        // given
+        final var id = VideoID.unique();
+        final var previousKey = "blobs/" + "b".repeat(64) + "-8";
+        final var expectedKey = "blobs/" + DIGEST + "-4";
+        final var resource = Resource.with(new ByteArrayInputStream(new byte[4]), 4, "CgsMDQ==", "video/mp4", "video.mp4")
+                .withDigest(DIGEST);
+
+        when(blobReferenceRepository.findBlobKeyById(any())).thenReturn(Optional.of(previousKey));
+        when(storageService.head(eq(expectedKey)))
+                .thenReturn(Optional.empty(), Optional.of(StoredMedia.with(expectedKey, "CgsMDQ==", "video.mp4", 4)));
+        when(blobReferenceRepository.findReferencedBlobKeys(any())).thenReturn(List.of());
+        when(storageService.deleteAll(any())).thenReturn(MediaCleanupReport.with(List.of(previousKey), List.of()));
+
+        // when
+        final var actualMedia = this.adapter.storeAudioVideo(id, VideoResource.with(VideoMediaType.VIDEO, resource));
+
+        // then
+        Assertions.assertEquals(expectedKey, actualMedia.getRawLocation());
+
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(storageService).store(eq(expectedKey), eq(resource));
+        inOrder.verify(blobReferenceRepository).saveAndFlush(argThat(reference -> expectedKey.equals(reference.getBlobKey())));
+        inOrder.verify(blobReferenceRepository).lockByBlobKeys(eq(List.of(previousKey)));
+        inOrder.verify(blobReferenceRepository).findReferencedBlobKeys(eq(List.of(previousKey)));
+        inOrder.verify(storageService).deleteAll(eq(List.of(previousKey)));
+    }
+
+    @Test
+    public void givenABlobReleasedWhileReferencing_whenCallsStoreAudioVideo_shouldThrowInternalError() {
+        // given
+        final var expectedKey = "blobs/" + DIGEST + "-4";
+        final var resource = Resource.with(new ByteArrayInputStream(new byte[4]), 4, "CgsMDQ==", "video/mp4", "video.mp4")
+                .withDigest(DIGEST);
+
+        when(storageService.head(eq(expectedKey)))
+                .thenReturn(Optional.of(StoredMedia.with(expectedKey, "CgsMDQ==", "video.mp4", 4)), Optional.empty());
+
+        // when
+        Assertions.assertThrows(InternalErrorException.class, () -> this.adapter.storeAudioVideo(VideoID.unique(),
+                VideoResource.with(VideoMediaType.VIDEO, resource)));
+
+        // then
+        verify(storageService, never()).store(anyString(), any());
+        verify(storageService, never()).deleteAll(any());
+    }
+
+    @Test
+    public void givenAPresignedUpload_whenCallsPresignUpload_shouldSignAStagingKeyWithoutReferencingIt() {
+        // given
+        final var id = VideoID.unique();
+        final var expectedPrefix = "videoId-" + id.getValue() + "/uploads/";
+        final var upload = MediaUpload.with("video.mp4", "video/mp4", 4, "CgsMDQ==");
+
+        when(storageService.presignUpload(anyString(), any(), any()))
+                .thenReturn(PresignedUrl.with("url", "PUT", Instant.now(), Map.of()));
+
+        // when
+        final var actualUrl = this.adapter.presignUpload(id, VideoMediaType.VIDEO, upload);
+
+        // then
+        Assertions.assertNotNull(actualUrl.uploadId());
+        verify(storageService).presignUpload(eq(expectedPrefix + actualUrl.uploadId()), eq(upload), any());
+        verify(blobReferenceRepository, never()).save(any());
+        verify(blobReferenceRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void givenACompletedUpload_whenCallsCompleteUpload_shouldReferenceItAndReleaseThePreviousBlob() {
+        // given
+        final var id = VideoID.unique();
+        final var previousKey = "blobs/" + DIGEST + "-4";
+        final var expectedKey = "videoId-" + id.getValue() + "/uploads/0123456789abcdef0123456789abcdef";
+        final var upload = StoredMedia.with(expectedKey, "CgsMDQ==", "video.mp4", 4);
+
+        when(blobReferenceRepository.findBlobKeyById(any())).thenReturn(Optional.of(previousKey));
+        when(storageService.head(eq(expectedKey))).thenReturn(Optional.of(upload));
+        when(blobReferenceRepository.findReferencedBlobKeys(any())).thenReturn(List.of());
+        when(storageService.deleteAll(any())).thenReturn(MediaCleanupReport.with(List.of(previousKey), List.of()));
+
+        // when
+        final var actualMedia = this.adapter.completeUpload(id, VideoMediaType.VIDEO, upload);
+
+        // then
+        Assertions.assertEquals(expectedKey, actualMedia.location());
+
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(blobReferenceRepository).saveAndFlush(argThat(reference -> expectedKey.equals(reference.getBlobKey())));
+        inOrder.verify(blobReferenceRepository).lockByBlobKeys(eq(List.of(previousKey)));
+        inOrder.verify(storageService).deleteAll(eq(List.of(previousKey)));
+        verify(storageService, never()).move(anyString(), anyString());
+    }
+
+    @Test
+    public void givenABlobStillReferencedByAnotherVideo_whenCallsClearResources_shouldDeleteOnlyTheUnreferencedOnes() {
+        // given
+        final var id = VideoID.unique();
+        final var sharedKey = "blobs/0a0b0c0d-4";
+        final var ownKey = "blobs/01020304-8";
+        final var stagedKey = "videoId-" + id.getValue() + "/uploads/0123456789abcdef0123456789abcdef";
+
+        when(blobReferenceRepository.findBlobKeysByVideoId(eq(id.getValue()))).thenReturn(List.of(sharedKey, ownKey));
+        when(storageService.list(eq("videoId-" + id.getValue() + "/uploads/"))).thenReturn(List.of(stagedKey));
+        when(blobReferenceRepository.findReferencedBlobKeys(any())).thenReturn(List.of(sharedKey));
+        when(storageService.deleteAll(any())).thenReturn(MediaCleanupReport.with(List.of(ownKey, stagedKey), List.of()));
+
+        // when
+        final var actualReport = this.adapter.clearResources(id);
+
+        // then
+        Assertions.assertTrue(actualReport.isComplete());
+        final var inOrder = inOrder(blobReferenceRepository, storageService);
+        inOrder.verify(blobReferenceRepository).deleteByVideoId(eq(id.getValue()));
+        inOrder.verify(blobReferenceRepository).lockByBlobKeys(eq(List.of(sharedKey, ownKey, stagedKey)));
+        inOrder.verify(blobReferenceRepository).findReferencedBlobKeys(any());
+        inOrder.verify(storageService).deleteAll(eq(List.of(ownKey, stagedKey)));
+    }
+}
@@ -0,0 +1,157 @@
+package com.codelabs.admin.catalago.infrastructure.storing.service;
+
+import com.codelabs.admin.catalago.common.exceptions.InternalErrorException;
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.infrastructure.storing.config.StoringProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = new StoringProperties();
+        properties.setRootDirectory(root.toString());
+        this.storageService = new FileSystemStorageService(properties);
+    }
+
+    @Test
+    public void givenAStoredResource_whenCallsGet_shouldReturnContentAndMetadata() throws Exception {
+        // given
+        final var expectedKey = "videoId-123/type-VIDEO";
+        storageService.store(expectedKey, resource("0123456789", "video/mp4", "video.mp4"));
+
+        // when
+        final var actualResource = storageService.get(expectedKey).orElseThrow();
+
+        // then
+        Assertions.assertEquals("0123456789", new String(actualResource.getInputStream().readAllBytes(), StandardCharsets.US_ASCII));
+        Assertions.assertEquals(10, actualResource.getContentLength());
+        Assertions.assertEquals("checksum", actualResource.getChecksum());
+        Assertions.assertEquals("video/mp4", actualResource.getContentType());
+        Assertions.assertEquals("video.mp4", actualResource.getName());
+        Assertions.assertTrue(actualResource.getContentRange().isEmpty());
+    }
+
+    @Test
+    public void givenARange_whenCallsGet_shouldTransferOnlyTheRegion() throws Exception {
+        // given
+        final var expectedKey = "videoId-123/type-VIDEO";
+        storageService.store(expectedKey, resource("0123456789", "video/mp4", "video.mp4"));
+
+        // when
+        final var actualResource = storageService.get(expectedKey, ByteRange.suffix(3)).orElseThrow();
+        final var actualBody = new ByteArrayOutputStream();
+        actualResource.getInputStream().transferTo(actualBody);
+
+        // then
+        Assertions.assertEquals("789", actualBody.toString(StandardCharsets.US_ASCII));
+        Assertions.assertEquals(3, actualResource.getContentLength());
+        Assertions.assertEquals(ContentRange.with(7, 9, 10), actualResource.getContentRange().orElseThrow());
+    }
+
+    @Test
+    public void givenAFileTruncatedWhileReading_whenCallsTransferTo_shouldThrowEOF() throws Exception {
+        // given
+        final var expectedKey = "videoId-123/type-VIDEO";
+        storageService.store(expectedKey, resource("0123456789", "video/mp4", "video.mp4"));
+        final var actualResource = storageService.get(expectedKey).orElseThrow();
+
+        try (final var file = FileChannel.open(root.resolve(expectedKey), StandardOpenOption.WRITE)) {
+            file.truncate(4);
+        }
+
+        // when
+        final var actualBody = new ByteArrayOutputStream();
+
+        // then
+        Assertions.assertThrows(EOFException.class, () -> actualResource.getInputStream().transferTo(actualBody));
+    }
+
+    @Test
+    public void givenARangeAfterTheEnd_whenCallsGet_shouldThrowRangeNotSatisfiable() {
+        // given
+        final var expectedKey = "videoId-123/type-VIDEO";
+        storageService.store(expectedKey, resource("0123456789", "video/mp4", "video.mp4"));
+
+        // when
+        final var actualException = Assertions.assertThrows(RangeNotSatisfiableException.class,
+                () -> storageService.get(expectedKey, ByteRange.of(10, null)));
+
+        // then
+        Assertions.assertEquals(10, actualException.getTotalLength());
+    }
+
+    @Test
+    public void givenATruncatedUpload_whenCallsStore_shouldKeepThePreviousFileAndMetadata() throws Exception {
+        // given
+        final var expectedKey = "videoId-123/type-VIDEO";
+        storageService.store(expectedKey, resource("0123456789", "video/mp4", "video.mp4"));
+
+        final var truncated = Resource.with(new ByteArrayInputStream("abc".getBytes(StandardCharsets.US_ASCII)), 10,
+                "other-checksum", "video/webm", "other.webm");
+
+        // when
+        Assertions.assertThrows(InternalErrorException.class, () -> storageService.store(expectedKey, truncated));
+
+        // then
+        final var actualResource = storageService.get(expectedKey).orElseThrow();
+        Assertions.assertEquals("0123456789", new String(actualResource.getInputStream().readAllBytes(), StandardCharsets.US_ASCII));
+        Assertions.assertEquals("checksum", actualResource.getChecksum());
+        Assertions.assertEquals("video/mp4", actualResource.getContentType());
+        Assertions.assertEquals("video.mp4", actualResource.getName());
+        Assertions.assertEquals(List.of(expectedKey), storageService.list("videoId-123"));
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            Assertions.assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void givenAnUnknownKey_whenCallsGet_shouldReturnEmpty() {
+        Assertions.assertTrue(storageService.get("videoId-123/type-VIDEO").isEmpty());
+    }
+
+    @Test
+    public void givenAVideoFolder_whenCallsListAndDeleteAll_shouldRemoveEveryMedia() {
+        // given
+        storageService.store("videoId-123/type-VIDEO", resource("video", "video/mp4", "video.mp4"));
+        storageService.store("videoId-123/type-BANNER", resource("banner", "image/png", "banner.png"));
+        storageService.store("videoId-456/type-VIDEO", resource("other", "video/mp4", "other.mp4"));
+
+        // when
+        final var actualKeys = storageService.list("videoId-123");
+        final var actualReport = storageService.deleteAll(actualKeys);
+
+        // then
+        Assertions.assertEquals(List.of("videoId-123/type-BANNER", "videoId-123/type-VIDEO"), actualKeys.stream().sorted().toList());
+        Assertions.assertEquals(2, actualReport.deleted().size());
+        Assertions.assertTrue(actualReport.isComplete());
+        Assertions.assertTrue(storageService.list("videoId-123").isEmpty());
+        Assertions.assertEquals(List.of("videoId-456/type-VIDEO"), storageService.list("videoId-456"));
+    }
+
+    private Resource resource(final String content, final String contentType, final String name) {
+        final var bytes = content.getBytes(StandardCharsets.US_ASCII);
+        return Resource.with(new ByteArrayInputStream(bytes), bytes.length, "checksum", contentType, name);
+    }
+}
@@ -6,6 +6,7 @@ import com.codelabs.admin.catalago.ControllerTest;
 import com.codelabs.admin.catalago.Fixture;
 import com.codelabs.admin.catalago.application.ports.in.CastMemberUseCase;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
 import com.codelabs.admin.catalago.domain.castmember.CastMember;
 import com.codelabs.admin.catalago.domain.castmember.CastMemberID;
 import com.codelabs.admin.catalago.domain.enums.ProblemType;
@@ -19,11 +20,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -154,6 +157,69 @@ public class CastMemberAPITest {
         verify(castMemberUseCase).getById(eq(expectedId));
     }
 
+    @Test
+    public void givenAStaleETag_whenCallsGetById_shouldReturnItWithValidators() throws Exception {
+        // given
+        final var member = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
+
+        final var expectedId = member.getId().getValue();
+        final var expectedETag = ETagUtils.strong(member.getUpdatedAt());
+
+        when(castMemberUseCase.getLastModified(any()))
+                .thenReturn(Optional.of(member.getUpdatedAt()));
+
+        when(castMemberUseCase.getById(any()))
+                .thenReturn(member);
+
+        when(mapper.toResponse(any(), any()))
+                .thenReturn(CastMemberDetailsResponse.from(member));
+
+        // when
+        final var request = get("/cast_members/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(castMemberUseCase, times(1)).getById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        // given
+        final var member = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
+
+        final var expectedId = member.getId().getValue();
+        final var expectedETag = ETagUtils.strong(member.getUpdatedAt());
+
+        when(castMemberUseCase.getLastModified(any()))
+                .thenReturn(Optional.of(member.getUpdatedAt()));
+
+        // when
+        final var request = get("/cast_members/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(castMemberUseCase, times(1)).getLastModified(eq(expectedId));
+        verify(castMemberUseCase, never()).getById(any());
+        verify(mapper, never()).toResponse(any(), any());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetByIdAndCastMemberDoesntExists_shouldReturnNotFound() throws Exception {
         // given
@@ -5,6 +5,7 @@ import br.com.fluentvalidator.context.ValidationResult;
 import com.codelabs.admin.catalago.ControllerTest;
 import com.codelabs.admin.catalago.application.ports.in.CategoryUseCase;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
 import com.codelabs.admin.catalago.domain.category.Category;
 import com.codelabs.admin.catalago.domain.enums.ProblemType;
 import com.codelabs.admin.catalago.domain.pagination.Pagination;
@@ -17,11 +18,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -167,6 +170,36 @@ public class CategoryAPITest {
         verify(mapper, times(1)).toResponse(any(), any());
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        // given
+        final var category =
+                Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var expectedId = category.getId().getValue();
+        final var expectedETag = ETagUtils.strong(category.getUpdatedAt());
+
+        when(useCase.getLastModified(any()))
+                .thenReturn(Optional.of(category.getUpdatedAt()));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(useCase, times(1)).getLastModified(eq(expectedId));
+        verify(useCase, never()).getById(any());
+        verify(mapper, never()).toResponse(any(), any());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         // given
@@ -5,6 +5,7 @@ import br.com.fluentvalidator.context.ValidationResult;
 import com.codelabs.admin.catalago.ControllerTest;
 import com.codelabs.admin.catalago.application.ports.in.GenreUseCase;
 import com.codelabs.admin.catalago.common.exceptions.NotFoundException;
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
 import com.codelabs.admin.catalago.domain.category.CategoryID;
 import com.codelabs.admin.catalago.domain.enums.ProblemType;
 import com.codelabs.admin.catalago.domain.genre.Genre;
@@ -18,11 +19,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -165,6 +168,69 @@ public class GenreAPITest {
         verify(useCase).getById(eq(expectedId));
     }
 
+    @Test
+    public void givenAStaleETag_whenCallsGetGenreById_shouldReturnGenreWithValidators() throws Exception {
+        // given
+        final var genre = Genre.newGenre("Ação", true);
+
+        final var expectedId = genre.getId().getValue();
+        final var expectedETag = ETagUtils.strong(genre.getUpdatedAt());
+
+        when(useCase.getLastModified(any()))
+                .thenReturn(Optional.of(genre.getUpdatedAt()));
+
+        when(useCase.getById(any()))
+                .thenReturn(genre);
+
+        when(mapper.toResponse(any(), any()))
+                .thenReturn(GenreDetailsResponse.from(genre));
+
+        // when
+        final var request = get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(useCase, times(1)).getById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        // given
+        final var genre = Genre.newGenre("Ação", true);
+
+        final var expectedId = genre.getId().getValue();
+        final var expectedETag = ETagUtils.strong(genre.getUpdatedAt());
+
+        when(useCase.getLastModified(any()))
+                .thenReturn(Optional.of(genre.getUpdatedAt()));
+
+        // when
+        final var request = get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(useCase, times(1)).getLastModified(eq(expectedId));
+        verify(useCase, never()).getById(any());
+        verify(mapper, never()).toResponse(any(), any());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetGenre_shouldReturnNotFound() throws Exception {
         // given
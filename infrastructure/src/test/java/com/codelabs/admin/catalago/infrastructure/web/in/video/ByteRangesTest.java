@@ -0,0 +1,87 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video;
+
+import com.codelabs.admin.catalago.common.exceptions.RangeNotSatisfiableException;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class ByteRangesTest {
+
+    @Test
+    public void givenAValidRangeSet_whenCallsParse_shouldReturnRanges() {
+        // given
+        final var header = "bytes=0-99, 200-, -50";
+
+        // when
+        final var actualRanges = ByteRanges.parse(header);
+
+        // then
+        Assertions.assertEquals(List.of(
+                ByteRange.of(0, 99L),
+                ByteRange.of(200, null),
+                ByteRange.suffix(50)
+        ), actualRanges);
+    }
+
+    @Test
+    public void givenAnInvalidRangeSet_whenCallsParse_shouldIgnoreTheHeader() {
+        Assertions.assertTrue(ByteRanges.parse(null).isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("items=0-10").isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("bytes=10-5").isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("bytes=a-b").isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("bytes=-0").isEmpty());
+    }
+
+    @Test
+    public void givenTwoRanges_whenCallsMultipart_shouldWriteEachPartWithItsContentRange() throws Exception {
+        // given
+        final var expectedBoundary = "abc";
+        final var first = resource("0123", ContentRange.with(0, 3, 10));
+        final var second = resource("89", ContentRange.with(8, 9, 10));
+
+        final var expectedBody = "\r\n--abc\r\n"
+                + "Content-Type: video/mp4\r\n"
+                + "Content-Range: bytes 0-3/10\r\n"
+                + "\r\n"
+                + "0123"
+                + "\r\n--abc\r\n"
+                + "Content-Type: video/mp4\r\n"
+                + "Content-Range: bytes 8-9/10\r\n"
+                + "\r\n"
+                + "89"
+                + "\r\n--abc--\r\n";
+
+        // when
+        final var actualBody = ByteRanges.multipart(expectedBoundary, List.of(first, second));
+
+        // then
+        Assertions.assertEquals(expectedBody, new String(actualBody.readAllBytes(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void givenARangeStartingPastTheEnd_whenCallsRequireSatisfiable_shouldRejectTheWholeSet() {
+        // given
+        final var ranges = List.of(ByteRange.of(0, 3L), ByteRange.of(10, null));
+
+        // when
+        final var actualException = Assertions.assertThrows(RangeNotSatisfiableException.class,
+                () -> ByteRanges.requireSatisfiable(ranges, 10));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().contains("10"));
+        Assertions.assertEquals(10, actualException.getTotalLength());
+        Assertions.assertDoesNotThrow(() -> ByteRanges.requireSatisfiable(
+                List.of(ByteRange.of(0, 3L), ByteRange.of(9, 20L), ByteRange.suffix(50)), 10));
+    }
+
+    private Resource resource(final String content, final ContentRange range) {
+        final var bytes = content.getBytes(StandardCharsets.US_ASCII);
+        return Resource.with(new ByteArrayInputStream(bytes), bytes.length, "checksum", "video/mp4", "video.mp4", range);
+    }
+}
@@ -0,0 +1,361 @@
+package com.codelabs.admin.catalago.infrastructure.web.in.video;
+
+import com.codelabs.admin.catalago.ControllerTest;
+import com.codelabs.admin.catalago.application.ports.in.*;
+import com.codelabs.admin.catalago.common.utils.ETagUtils;
+import com.codelabs.admin.catalago.domain.enums.ProblemType;
+import com.codelabs.admin.catalago.domain.enums.Rating;
+import com.codelabs.admin.catalago.domain.video.ByteRange;
+import com.codelabs.admin.catalago.domain.video.ContentRange;
+import com.codelabs.admin.catalago.domain.video.PresignedUrl;
+import com.codelabs.admin.catalago.domain.video.Resource;
+import com.codelabs.admin.catalago.domain.video.Video;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.CompleteMediaUploadRequest;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.dto.PresignMediaUploadRequest;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.validator.CompleteMediaUploadValidator;
+import com.codelabs.admin.catalago.infrastructure.web.in.video.validator.PresignMediaUploadValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.Year;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = VideoAPI.class)
+@Import({PresignMediaUploadValidator.class, CompleteMediaUploadValidator.class})
+public class VideoAPITest {
+
+    private static final String CHECKSUM = "abc";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CreateVideoUseCase createVideoUseCase;
+
+    @MockBean
+    private GetVideoByIdUseCase getVideoByIdUseCase;
+
+    @MockBean
+    private UpdateVideoUseCase updateVideoUseCase;
+
+    @MockBean
+    private DeleteVideoUseCase deleteVideoUseCase;
+
+    @MockBean
+    private ListVideosUseCase listVideosUseCase;
+
+    @MockBean
+    private GetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private PresignMediaUseCase presignMediaUseCase;
+
+    @MockBean
+    private CompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    @MockBean
+    private BulkSaveVideosUseCase bulkSaveVideosUseCase;
+
+    @Test
+    public void givenAStaleETag_whenCallsGetById_shouldReturnVideoWithValidators() throws Exception {
+        // given
+        final var video = video();
+
+        final var expectedId = video.getId().getValue();
+        final var expectedETag = ETagUtils.strong(video.getUpdatedAt());
+
+        when(getVideoByIdUseCase.getLastModified(any()))
+                .thenReturn(Optional.of(video.getUpdatedAt()));
+
+        when(getVideoByIdUseCase.getById(any()))
+                .thenReturn(video);
+
+        // when
+        final var request = get("/videos/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(getVideoByIdUseCase, times(1)).getById(eq(expectedId));
+    }
+
+    @Test
+    public void givenACachedVideoOlderThanTheDatabase_whenCallsGetById_shouldReturnTheValidatorsOfTheReturnedVideo() throws Exception {
+        // given
+        final var video = video();
+
+        final var expectedId = video.getId().getValue();
+        final var expectedETag = ETagUtils.strong(video.getUpdatedAt());
+
+        when(getVideoByIdUseCase.getLastModified(any()))
+                .thenReturn(Optional.of(video.getUpdatedAt().plusSeconds(1)));
+
+        when(getVideoByIdUseCase.getById(any()))
+                .thenReturn(video);
+
+        // when
+        final var request = get("/videos/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, video.getUpdatedAt().toEpochMilli()))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        // given
+        final var video = video();
+
+        final var expectedId = video.getId().getValue();
+        final var expectedETag = ETagUtils.strong(video.getUpdatedAt());
+
+        when(getVideoByIdUseCase.getLastModified(any()))
+                .thenReturn(Optional.of(video.getUpdatedAt()));
+
+        // when
+        final var request = get("/videos/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getVideoByIdUseCase, times(1)).getLastModified(eq(expectedId));
+        verify(getVideoByIdUseCase, never()).getById(any());
+    }
+
+    @Test
+    public void givenTwoSatisfiableRanges_whenCallsGetMediaByType_shouldReturnEveryPart() throws Exception {
+        // given
+        when(getMediaUseCase.getChecksum(any()))
+                .thenReturn(Optional.of(CHECKSUM));
+
+        when(getMediaUseCase.getMedia(argThat(command -> command != null && ByteRange.of(0, 3L).equals(command.range()))))
+                .thenReturn(resource("0123", ContentRange.with(0, 3, 10)));
+
+        when(getMediaUseCase.getMedia(argThat(command -> command != null && ByteRange.suffix(2).equals(command.range()))))
+                .thenReturn(resource("89", ContentRange.with(8, 9, 10)));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", "123", "video")
+                .header(HttpHeaders.RANGE, "bytes=0-3, -2");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("multipart/byteranges")))
+                .andExpect(content().string(containsString("Content-Range: bytes 0-3/10")))
+                .andExpect(content().string(containsString("Content-Range: bytes 8-9/10")));
+
+        verify(getMediaUseCase, times(2)).getMedia(any());
+    }
+
+    @Test
+    public void givenARangeBeyondTheMedia_whenCallsGetMediaByType_shouldReturnRangeNotSatisfiableBeforeAnyPart() throws Exception {
+        // given
+        when(getMediaUseCase.getChecksum(any()))
+                .thenReturn(Optional.of(CHECKSUM));
+
+        when(getMediaUseCase.getMedia(any()))
+                .thenReturn(resource("0123", ContentRange.with(0, 3, 10)));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", "123", "video")
+                .header(HttpHeaders.RANGE, "bytes=0-3, 20-30");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        verify(getMediaUseCase, times(1)).getMedia(any());
+    }
+
+    @Test
+    public void givenAnIfRangeForAnotherVersion_whenCallsGetMediaByType_shouldReturnTheFullMediaWithoutARangedGet() throws Exception {
+        // given
+        when(getMediaUseCase.getChecksum(any()))
+                .thenReturn(Optional.of(CHECKSUM));
+
+        when(getMediaUseCase.getMedia(any()))
+                .thenReturn(resource("0123456789", null));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", "123", "video")
+                .header(HttpHeaders.RANGE, "bytes=0-3")
+                .header(HttpHeaders.IF_RANGE, "\"old\"");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+
+        verify(getMediaUseCase, times(1)).getMedia(argThat(command -> command.range() == null));
+        verify(getMediaUseCase, never()).getMedia(argThat(command -> command != null && command.range() != null));
+    }
+
+    @Test
+    public void givenAValidPresignRequest_whenCallsPresignUpload_shouldReturnTheUrl() throws Exception {
+        // given
+        final var expectedUploadId = "0123456789abcdef0123456789abcdef";
+        final var expectedUrl = "https://bucket.s3.amazonaws.com/videoId-123/uploads/%s?X-Amz-Signature=abc"
+                .formatted(expectedUploadId);
+        final var input = new PresignMediaUploadRequest("video.mp4", "video/mp4", 10L, CHECKSUM);
+
+        when(presignMediaUseCase.presignUpload(any()))
+                .thenReturn(PresignedUrl.with(expectedUrl, "PUT", Instant.now(), Map.of()).withUploadId(expectedUploadId));
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/upload-url", "123", "video")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.url", equalTo(expectedUrl)))
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)));
+
+        verify(presignMediaUseCase, times(1)).presignUpload(argThat(command ->
+                "video.mp4".equals(command.name())
+                        && "video/mp4".equals(command.contentType())
+                        && command.contentLength() == 10L
+                        && CHECKSUM.equals(command.checksum())));
+    }
+
+    @Test
+    public void givenAnEmptyPresignRequest_whenCallsPresignUpload_shouldReturnEveryMissingField() throws Exception {
+        // given
+        final var input = new PresignMediaUploadRequest(null, null, null, null);
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/upload-url", "123", "video")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields", hasSize(4)))
+                .andExpect(jsonPath("$.fields[0].field", equalTo("name")))
+                .andExpect(jsonPath("$.fields[0].code", equalTo(ProblemType.NAME_MUST_NOT_BE_NULL.name())))
+                .andExpect(jsonPath("$.fields[1].field", equalTo("content_type")))
+                .andExpect(jsonPath("$.fields[1].code", equalTo(ProblemType.CONTENT_TYPE_MUST_NOT_BE_NULL.name())))
+                .andExpect(jsonPath("$.fields[2].field", equalTo("content_length")))
+                .andExpect(jsonPath("$.fields[2].code", equalTo(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.name())))
+                .andExpect(jsonPath("$.fields[3].field", equalTo("checksum")))
+                .andExpect(jsonPath("$.fields[3].code", equalTo(ProblemType.CHECKSUM_MUST_NOT_BE_NULL.name())));
+
+        verify(presignMediaUseCase, never()).presignUpload(any());
+    }
+
+    @Test
+    public void givenAZeroContentLength_whenCallsPresignUpload_shouldReturnBadRequest() throws Exception {
+        // given
+        final var input = new PresignMediaUploadRequest("video.mp4", "video/mp4", 0L, CHECKSUM);
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/upload-url", "123", "video")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields", hasSize(1)))
+                .andExpect(jsonPath("$.fields[0].field", equalTo("content_length")))
+                .andExpect(jsonPath("$.fields[0].code", equalTo(ProblemType.CONTENT_LENGTH_MUST_BE_POSITIVE.name())));
+
+        verify(presignMediaUseCase, never()).presignUpload(any());
+    }
+
+    @Test
+    public void givenAnUploadIdNotIssuedByTheApi_whenCallsCompleteUpload_shouldReturnBadRequest() throws Exception {
+        // given
+        final var input = new CompleteMediaUploadRequest("../type-VIDEO", CHECKSUM);
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/complete", "123", "video")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields", hasSize(1)))
+                .andExpect(jsonPath("$.fields[0].field", equalTo("upload_id")))
+                .andExpect(jsonPath("$.fields[0].code", equalTo(ProblemType.UPLOAD_ID_MUST_BE_VALID.name())));
+
+        verify(completeMediaUploadUseCase, never()).complete(any());
+    }
+
+    private Video video() {
+        return Video.newVideo("System Design", "Entrevistas", Year.of(2022), 120.0, true, true,
+                Rating.L, Set.of(), Set.of(), Set.of());
+    }
+
+    private Resource resource(final String content, final ContentRange range) {
+        final var bytes = content.getBytes(StandardCharsets.US_ASCII);
+        return Resource.with(new ByteArrayInputStream(bytes), bytes.length, CHECKSUM, "video/mp4", "video.mp4", range);
+    }
+}